@@ -0,0 +1,38 @@
+package com.github.youssefwadie.env;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+import java.lang.reflect.Type;
+import java.util.regex.Pattern;
+
+/**
+ * The validated binding plan of a single {@link Env} annotated member.
+ *
+ * @param env          the member annotation
+ * @param targetType   the member type
+ * @param pattern      the compiled {@link Env#pattern()}, {@code null} if unset
+ * @param hasDefault   whether {@link Env#defaultValue()} is set
+ * @param defaultValue the converted default value, shared by every bind
+ */
+record EnvBinding(Env env, Type targetType, Pattern pattern, boolean hasDefault, Object defaultValue) {
+
+    String name() {
+        return env.value();
+    }
+
+    /**
+     * Identifies the member shape, two bindings with the same signature resolve to the same value.
+     */
+    String signature() {
+        return String.join("\u0000", env.value(), targetType.getTypeName(), env.separator(), env.defaultValue(),
+                String.valueOf(env.required()), String.valueOf(env.min()), String.valueOf(env.max()), env.pattern());
+    }
+
+    boolean isConstrained() {
+        return env.required() || pattern != null || hasRange();
+    }
+
+    boolean hasRange() {
+        return env.min() != Double.NEGATIVE_INFINITY || env.max() != Double.POSITIVE_INFINITY;
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.youssefwadie.env;
+
+import com.github.youssefwadie.env.annotations.Env;
+import com.github.youssefwadie.env.exceptions.EnvValidationException;
+import com.github.youssefwadie.env.processor.EnvIndexProcessor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Logger;
+
+/**
+ * The index of the types declaring {@link Env} members, generated at build time by the {@link EnvIndexProcessor}.
+ * <pre>{@code
+ * EnvIndex.warmUp(objectEnvParser, envProxyFactory);
+ * }</pre>
+ */
+public final class EnvIndex {
+    public static final String INDEX_RESOURCE = "META-INF/env/types.idx";
+    private final static Logger log = Logger.getLogger(EnvIndex.class.getName());
+
+    private EnvIndex() {
+    }
+
+    /**
+     * Loads the indexed types of all the {@link #INDEX_RESOURCE} resources visible to the given class loader,
+     * types which cannot be loaded any more are skipped.
+     *
+     * @param classLoader must not be {@literal null}.
+     * @return the indexed types.
+     * @throws UncheckedIOException if an index cannot be read.
+     */
+    public static List<Class<?>> load(ClassLoader classLoader) {
+        Assert.notNull(classLoader, "classLoader must not be null");
+        final Set<String> typeNames = new LinkedHashSet<>();
+        try {
+            final var resources = classLoader.getResources(INDEX_RESOURCE);
+            while (resources.hasMoreElements()) {
+                try (var reader = new BufferedReader(new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines().map(String::strip).filter(line -> !line.isEmpty()).forEach(typeNames::add);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        final List<Class<?>> types = new ArrayList<>(typeNames.size());
+        for (var typeName : typeNames) {
+            try {
+                types.add(Class.forName(typeName, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError ex) {
+                log.warning("skipping indexed type %s: %s".formatted(typeName, ex));
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Introspects and validates all the indexed types of the context class loader in parallel,
+     * so the first {@code parse}/{@code createProxy} calls find their binding plans ready.
+     *
+     * @param objectEnvParser the parser of the indexed classes, must not be {@literal null}.
+     * @param envProxyFactory the factory of the indexed interfaces, must not be {@literal null}.
+     * @throws EnvValidationException holding the violations of all the indexed types.
+     */
+    public static void warmUp(ObjectEnvParser objectEnvParser, EnvProxyFactory envProxyFactory) {
+        warmUp(load(Thread.currentThread().getContextClassLoader()), objectEnvParser, envProxyFactory);
+    }
+
+    /**
+     * Introspects and validates the given types in parallel, interfaces with the {@code envProxyFactory}
+     * and classes with the {@code objectEnvParser}.
+     *
+     * @param types           the types to warm up, must not be {@literal null}.
+     * @param objectEnvParser the parser of the classes, must not be {@literal null}.
+     * @param envProxyFactory the factory of the interfaces, must not be {@literal null}.
+     * @throws EnvValidationException holding the violations of all the types, including the types whose
+     *                                binding plan cannot be created.
+     */
+    public static void warmUp(Collection<Class<?>> types, ObjectEnvParser objectEnvParser, EnvProxyFactory envProxyFactory) {
+        Assert.notNull(types, "types must not be null");
+        Assert.notNull(objectEnvParser, "objectEnvParser must not be null");
+        Assert.notNull(envProxyFactory, "envProxyFactory must not be null");
+
+        final Queue<String> violations = new ConcurrentLinkedQueue<>();
+        types.parallelStream().forEach(type -> {
+            try {
+                if (type.isInterface()) {
+                    envProxyFactory.validate(type);
+                } else {
+                    objectEnvParser.validate(type);
+                }
+            } catch (EnvValidationException ex) {
+                violations.addAll(ex.getViolations());
+            } catch (RuntimeException ex) {
+                // the binding plan of the type cannot be created, e.g. an invalid default value
+                violations.add("%s: %s".formatted(type.getName(), describe(ex)));
+            }
+        });
+        if (!violations.isEmpty()) {
+            throw new EnvValidationException(new ArrayList<>(violations));
+        }
+    }
+
+    private static String describe(Throwable t) {
+        final var cause = t.getCause();
+        return cause == null || cause == t ? t.getMessage() : t.getMessage() + ": " + cause.getMessage();
+    }
+}
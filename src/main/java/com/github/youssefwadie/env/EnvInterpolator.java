@@ -0,0 +1,140 @@
+package com.github.youssefwadie.env;
+
+import com.github.youssefwadie.env.exceptions.EnvValidationException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the {@code ${NAME}} references of the environment variables values.
+ * <p>
+ * The references form a dependency graph which is resolved once, level by level, so every value is
+ * interpolated at most once and the values of a level are independent of each other, large levels are
+ * resolved in parallel. Variables taking part in a cycle, or depending on one, are reported on lookup.
+ * References to absent variables are kept as is, and {@code $${} escapes a literal {@code ${}.
+ * </p>
+ */
+final class EnvInterpolator {
+    private static final int PARALLEL_THRESHOLD = 1024;
+    private static final String REFERENCE_START = "${";
+    private static final String ESCAPED_REFERENCE_START = "$${";
+
+    private final Map<String, String> environmentVariables;
+    private final Map<String, String> resolvedValues = new ConcurrentHashMap<>();
+    private final Set<String> cyclicNames;
+
+    EnvInterpolator(Map<String, String> environmentVariables) {
+        this.environmentVariables = environmentVariables;
+        this.cyclicNames = resolve();
+    }
+
+    /**
+     * Returns the resolved value of the given variable.
+     *
+     * @param name the variable name
+     * @return the resolved value, {@code null} if the variable is absent.
+     * @throws EnvValidationException if the variable has a cyclic reference.
+     */
+    String get(String name) {
+        if (cyclicNames.contains(name)) {
+            throw new EnvValidationException(List.of("[%s] has a cyclic variable reference".formatted(name)));
+        }
+        return lookup(name);
+    }
+
+    private String lookup(String name) {
+        final var resolvedValue = resolvedValues.get(name);
+        return resolvedValue != null ? resolvedValue : environmentVariables.get(name);
+    }
+
+    /**
+     * Resolves all the values holding references.
+     *
+     * @return the names which cannot be resolved because of a cycle.
+     */
+    private Set<String> resolve() {
+        final Map<String, Set<String>> references = new HashMap<>();
+        environmentVariables.forEach((name, value) -> {
+            if (value != null && value.contains(REFERENCE_START)) {
+                references.put(name, new LinkedHashSet<>());
+            }
+        });
+        if (references.isEmpty()) {
+            return Set.of();
+        }
+
+        // only variables holding references are graph nodes, the others are resolved already
+        final Map<String, Integer> pendingReferences = new HashMap<>();
+        final Map<String, List<String>> dependents = new HashMap<>();
+        references.forEach((name, referencedNames) -> {
+            collectReferences(environmentVariables.get(name), referencedNames);
+            referencedNames.retainAll(references.keySet());
+            pendingReferences.put(name, referencedNames.size());
+            for (var referencedName : referencedNames) {
+                dependents.computeIfAbsent(referencedName, ignored -> new ArrayList<>()).add(name);
+            }
+        });
+
+        List<String> level = pendingReferences.entrySet().stream()
+                .filter(entry -> entry.getValue() == 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        while (!level.isEmpty()) {
+            final var stream = level.size() >= PARALLEL_THRESHOLD ? level.parallelStream() : level.stream();
+            stream.forEach(name -> resolvedValues.put(name, interpolate(environmentVariables.get(name))));
+
+            final var nextLevel = new ArrayList<String>();
+            for (var name : level) {
+                pendingReferences.remove(name);
+                for (var dependent : dependents.getOrDefault(name, List.of())) {
+                    if (pendingReferences.merge(dependent, -1, Integer::sum) == 0) {
+                        nextLevel.add(dependent);
+                    }
+                }
+            }
+            level = nextLevel;
+        }
+        return Set.copyOf(pendingReferences.keySet());
+    }
+
+    private void collectReferences(String value, Set<String> referencedNames) {
+        int index = 0;
+        while ((index = value.indexOf(REFERENCE_START, index)) >= 0) {
+            final int end = value.indexOf('}', index + REFERENCE_START.length());
+            if (end < 0) {
+                return;
+            }
+            if (!isEscaped(value, index)) {
+                referencedNames.add(value.substring(index + REFERENCE_START.length(), end));
+            }
+            index = end + 1;
+        }
+    }
+
+    /**
+     * Replaces the references of the given value, their values must be resolved already.
+     */
+    private String interpolate(String value) {
+        final var builder = new StringBuilder(value.length());
+        int from = 0;
+        int index;
+        while ((index = value.indexOf(REFERENCE_START, from)) >= 0) {
+            final int end = value.indexOf('}', index + REFERENCE_START.length());
+            if (end < 0) {
+                break;
+            }
+            if (isEscaped(value, index)) {
+                builder.append(value, from, index - 1).append(value, index, end + 1);
+            } else {
+                final var referencedValue = lookup(value.substring(index + REFERENCE_START.length(), end));
+                builder.append(value, from, index).append(referencedValue != null ? referencedValue : value.substring(index, end + 1));
+            }
+            from = end + 1;
+        }
+        return builder.append(value, from, value.length()).toString();
+    }
+
+    private boolean isEscaped(String value, int referenceStart) {
+        return value.startsWith(ESCAPED_REFERENCE_START, referenceStart - 1);
+    }
+}
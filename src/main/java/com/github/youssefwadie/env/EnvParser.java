@@ -1,28 +1,117 @@
 package com.github.youssefwadie.env;
 
 import com.github.youssefwadie.env.annotations.Env;
+import com.github.youssefwadie.env.exceptions.EnvValidationException;
 import com.github.youssefwadie.env.exceptions.UnsupportedTypeException;
 
+import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
+/**
+ * Parses {@link Env} annotated members from the environment variables.
+ * <p>
+ * Instances are thread-safe and meant to be shared, given the environment variables map is not modified
+ * after construction. An {@link ObjectEnvParser} and an {@link EnvProxyFactory} created from the same instance
+ * share its {@code <name>_FILE} contents cache, so a secret used by both objects and proxies is read once.
+ * </p>
+ */
 public class EnvParser {
 
     public static final String WILD_CARD_TYPE_ARE_NOT_SUPPORTED = "wild card type are not supported";
+    public static final String FILE_SUFFIX = "_FILE";
+    private static final Set<Class<?>> NUMERIC_TYPES = Set.of(int.class, Integer.class, short.class, Short.class,
+            long.class, Long.class, double.class, Double.class, float.class, Float.class, Number.class);
+    private static final String REGEX_META_CHARACTERS = ".$|()[{^?*+\\";
     private final static Logger log = Logger.getLogger(EnvParser.class.getName());
+    /**
+     * Returned by {@link #parseBinding(EnvBinding)} for logged failures, which resolve to {@code null} but are never recorded.
+     */
+    private static final Object FAILED = new Object();
     private final Map<String, String> environmentVariables;
+    private final EnvInterpolator interpolator;
+    private final EnvSnapshot snapshot;
+    private final boolean fileIndirection;
+    private final FileContentCache fileContentCache = new FileContentCache();
 
     public EnvParser() {
         this(System.getenv());
     }
 
+    /**
+     * Creates a parser of the system environment variables.
+     *
+     * @param fileIndirection Indicates whether every absent variable is read from the file named by its
+     *                        {@code <name>_FILE} variable, regardless of {@link Env#fromFile()}.
+     */
+    public EnvParser(boolean fileIndirection) {
+        this(fileIndirection, false);
+    }
+
+    /**
+     * Creates a parser of the system environment variables.
+     *
+     * @param fileIndirection Indicates whether every absent variable is read from the file named by its
+     *                        {@code <name>_FILE} variable, regardless of {@link Env#fromFile()}.
+     * @param interpolation   Indicates whether the {@code ${NAME}} references of the values are resolved.
+     */
+    public EnvParser(boolean fileIndirection, boolean interpolation) {
+        this(System.getenv(), null, fileIndirection, interpolation);
+    }
+
+    /**
+     * Creates a parser of the snapshot environment variables, reusing and recording the snapshot values.
+     *
+     * @param snapshot must not be null.
+     * @throws IllegalArgumentException if the given {@code snapshot} is {@code null}.
+     */
+    public EnvParser(EnvSnapshot snapshot) {
+        this(snapshot, false);
+    }
+
+    /**
+     * Creates a parser of the snapshot environment variables, reusing and recording the snapshot values.
+     *
+     * @param snapshot      must not be null.
+     * @param interpolation Indicates whether the {@code ${NAME}} references of the values are resolved.
+     * @throws IllegalArgumentException if the given {@code snapshot} is {@code null}.
+     */
+    public EnvParser(EnvSnapshot snapshot, boolean interpolation) {
+        this(environmentVariablesOf(snapshot), snapshot, false, interpolation);
+    }
+
     protected EnvParser(Map<String, String> environmentVariables) {
+        this(environmentVariables, false);
+    }
+
+    protected EnvParser(Map<String, String> environmentVariables, boolean fileIndirection) {
+        this(environmentVariables, fileIndirection, false);
+    }
+
+    protected EnvParser(Map<String, String> environmentVariables, boolean fileIndirection, boolean interpolation) {
+        this(environmentVariables, null, fileIndirection, interpolation);
+    }
+
+    private EnvParser(Map<String, String> environmentVariables, EnvSnapshot snapshot, boolean fileIndirection, boolean interpolation) {
         Assert.notEmpty(environmentVariables, "environmentVariables cannot be empty");
         this.environmentVariables = environmentVariables;
+        this.interpolator = interpolation ? new EnvInterpolator(environmentVariables) : null;
+        this.snapshot = snapshot;
+        this.fileIndirection = fileIndirection;
+    }
+
+    private static Map<String, String> environmentVariablesOf(EnvSnapshot snapshot) {
+        Assert.notNull(snapshot, "snapshot must not be null");
+        return snapshot.environmentVariables();
     }
 
     /**
@@ -32,30 +121,10 @@ public class EnvParser {
      * @param resultClass the class representing the desired environment variable type.
      * @return the parsed instance of the specified type.
      * @throws IllegalArgumentException if the {@code env} or {@code resultClass} is null.
-     * @throws RuntimeException         if any other exception occurs during the parsing process.
-     *                                  The specific exception that occurred will be wrapped in this {@code RuntimeException}.
+     * @throws EnvValidationException   if the value violates the {@link Env} constraints.
      */
-    @SuppressWarnings("unchecked")
     public <T> T parse(Env env, Class<T> resultClass) {
-        Assert.notNull(env, "env must not be null");
-        Assert.hasText(env.value(), "env.value() cannot be empty");
-
-        final var envValue = environmentVariables.get(env.value());
-
-        try {
-            final var separator = env.separator();
-            if (resultClass.equals(List.class)) {
-                return (T) parseList(String.class, envValue, separator);
-            } else if (resultClass.equals(Set.class)) {
-                return (T) parseSet(String.class, envValue, separator);
-            } else {
-                return (T) parseValue(resultClass, envValue);
-            }
-        } catch (Throwable t) {
-            // TODO handle silence fail
-            log.severe(t.getMessage());
-        }
-        return null;
+        return parse(env, (Type) resultClass);
     }
 
     /**
@@ -68,41 +137,295 @@ public class EnvParser {
      * @param targetType the class representing the desired environment variable type.
      * @return the parsed instance of the specified type.
      * @throws IllegalArgumentException if the {@code env} or {@code resultClass} is null.
-     * @throws RuntimeException         if any other exception occurs during the parsing process.
-     *                                  The specific exception that occurred will be wrapped in this {@code RuntimeException}.
+     * @throws EnvValidationException   if the value violates the {@link Env} constraints.
      */
-    @SuppressWarnings("unchecked")
     public <T> T parse(Env env, Type targetType) {
+        return parse(bind(env, targetType));
+    }
+
+    /**
+     * Validates the given {@link Env} against the target type and converts its default value.
+     * <p>
+     * The returned binding is meant to be created once per annotated member and shared by every
+     * {@link #parse(EnvBinding)} call.
+     * </p>
+     *
+     * @param env        the {@link Env} object to bind, must not be {@literal null}.
+     * @param targetType the type of the annotated member.
+     * @return the binding plan.
+     * @throws IllegalArgumentException if the {@code env} is null or its attributes are inconsistent.
+     */
+    EnvBinding bind(Env env, Type targetType) {
         Assert.notNull(env, "env must not be null");
         Assert.hasText(env.value(), "env.value() cannot be empty");
-        final var envValue = environmentVariables.get(env.value());
+        if (env.min() > env.max()) {
+            throw new IllegalArgumentException("[%s] min must not be greater than max".formatted(env.value()));
+        }
+        final boolean hasDefault = !Env.NO_DEFAULT_VALUE.equals(env.defaultValue());
+        if (env.required() && hasDefault) {
+            throw new IllegalArgumentException("[%s] a required variable cannot have a default value".formatted(env.value()));
+        }
+
+        final var pattern = env.pattern().isEmpty() ? null : Pattern.compile(env.pattern());
+        final var unboundBinding = new EnvBinding(env, targetType, pattern, false, null);
+        if (unboundBinding.hasRange() && !isNumeric(targetType)) {
+            throw new IllegalArgumentException("[%s] min and max require a numeric type or a collection of numbers, found %s"
+                    .formatted(env.value(), targetType.getTypeName()));
+        }
+        if (!hasDefault) {
+            return unboundBinding;
+        }
+
+        final Object defaultValue;
         try {
-            final var separator = env.separator();
+            defaultValue = unmodifiable(convert(env.defaultValue(), targetType, env.separator()));
+        } catch (Throwable t) {
+            throw new IllegalArgumentException("[%s] invalid default value".formatted(env.value()), t);
+        }
+        final var binding = new EnvBinding(env, targetType, pattern, true, defaultValue);
+        final var violations = check(binding, env.defaultValue(), defaultValue);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException("[%s] invalid default value: %s".formatted(env.value(), String.join("; ", violations)));
+        }
+        return binding;
+    }
 
-            if (targetType instanceof Class<?> targetClass) {
-                return (T) parse(env, targetClass);
+    /**
+     * Parses the environment variable of the given binding.
+     * <p>
+     * If interpolation is enabled, the {@code ${NAME}} references of the value are resolved by the {@link EnvInterpolator}.
+     * If file indirection is enabled, an absent variable is read from the file named by {@code <name>_FILE}.
+     * An absent variable resolves to the default value converted once by {@link #bind(Env, Type)}, or, when there is
+     * none, to an empty collection or {@code null}, without being checked against the constraints. Every call returns its own mutable collection, whether parsed or copied from the default.
+     * Conversion failures of unconstrained bindings are logged and resolve to {@code null}.
+     * </p>
+     *
+     * @param binding the binding plan created by {@link #bind(Env, Type)}.
+     * @return the parsed value.
+     * @throws EnvValidationException if the value violates the {@link Env} constraints.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T parse(EnvBinding binding) {
+        // file contents are not covered by the snapshot hash
+        if (snapshot == null || readsFile(binding)) {
+            final var value = parseBinding(binding);
+            return value == FAILED ? null : (T) value;
+        }
+        // interpolated and raw values of the same binding differ
+        final var signature = interpolator == null ? binding.signature() : "${}" + binding.signature();
+        final var recordedValue = snapshot.get(signature);
+        if (recordedValue != EnvSnapshot.MISSING) {
+            return (T) recordedValue;
+        }
+        final var value = parseBinding(binding);
+        if (value == FAILED) {
+            // parsed and reported again by the next start
+            return null;
+        }
+        snapshot.put(signature, value);
+        return (T) value;
+    }
+
+    private Object parseBinding(EnvBinding binding) {
+        var envValue = lookup(binding.name());
+        if (envValue == null && readsFile(binding)) {
+            final var file = lookup(binding.name() + FILE_SUFFIX);
+            if (file != null) {
+                final ByteBuffer content;
+                try {
+                    content = fileContentCache.read(Path.of(file));
+                } catch (IOException | InvalidPathException ex) {
+                    return fail(binding, "cannot read %s: %s".formatted(file, ex.getMessage()));
+                }
+                if (binding.targetType().equals(ByteBuffer.class)) {
+                    // checked against the pattern like a value set directly, decoded only if there is one
+                    final var violations = check(binding, binding.pattern() == null ? null : FileContentCache.decode(content), content);
+                    if (!violations.isEmpty()) {
+                        throw new EnvValidationException(violations);
+                    }
+                    return content;
+                }
+                envValue = FileContentCache.decode(content);
             }
+        }
 
-            if (!(targetType instanceof ParameterizedType parameterizedType)) {
-                return null;
+        if (envValue == null) {
+            if (binding.env().required()) {
+                throw new EnvValidationException(List.of("[%s] is required".formatted(binding.name())));
+            }
+            if (binding.hasDefault()) {
+                return copyOf(binding.defaultValue());
             }
+            // constraints only apply to present values
+            return absentValue(binding);
+        }
 
-            final var rawType = parameterizedType.getRawType();
-            if (rawType.equals(List.class)) {
-                return (T) parseList(parameterizedType, envValue, separator);
-            } else if (rawType.equals(Set.class)) {
-                return (T) parseSet(parameterizedType, envValue, separator);
+        final Object value;
+        try {
+            value = convert(envValue, binding.targetType(), binding.env().separator());
+        } catch (Throwable t) {
+            return fail(binding, "cannot be converted to %s: %s".formatted(binding.targetType().getTypeName(), t.getMessage()));
+        }
+
+        final var violations = check(binding, envValue, value);
+        if (!violations.isEmpty()) {
+            throw new EnvValidationException(violations);
+        }
+        return value;
+    }
+
+    /**
+     * Drops the cached contents of the {@code <name>_FILE} secret files, they are read again by the next parse.
+     */
+    public void clearFileCache() {
+        fileContentCache.clear();
+    }
+
+    /**
+     * Returns the value of the given variable, resolved by the {@link EnvInterpolator} if interpolation is enabled.
+     */
+    private String lookup(String name) {
+        return interpolator != null ? interpolator.get(name) : environmentVariables.get(name);
+    }
+
+    /**
+     * Whether the binding falls back to the {@code <name>_FILE} variable.
+     */
+    private boolean readsFile(EnvBinding binding) {
+        return fileIndirection || binding.env().fromFile();
+    }
+
+    /**
+     * Reports a failure of the given binding, constrained bindings fail with an {@link EnvValidationException}.
+     *
+     * @return {@link #FAILED}, if the binding is not constrained.
+     */
+    private Object fail(EnvBinding binding, String message) {
+        if (binding.isConstrained()) {
+            throw new EnvValidationException(List.of("[%s] %s".formatted(binding.name(), message)));
+        }
+        // TODO handle silence fail
+        log.severe(message);
+        return FAILED;
+    }
+
+    /**
+     * Checks the {@link Env#pattern()} and {@link Env#min()}/{@link Env#max()} constraints.
+     *
+     * @param binding  the binding plan
+     * @param rawValue the raw value, may be {@literal null}
+     * @param value    the converted value, may be {@literal null}
+     * @return the violations, empty if none.
+     */
+    private List<String> check(EnvBinding binding, String rawValue, Object value) {
+        final var violations = new ArrayList<String>();
+        if (binding.pattern() != null && rawValue != null && !binding.pattern().matcher(rawValue).matches()) {
+            violations.add("[%s] must match %s".formatted(binding.name(), binding.pattern().pattern()));
+        }
+        if (binding.hasRange()) {
+            if (value instanceof Collection<?> collection) {
+                for (final var element : collection) {
+                    checkRange(binding, element, violations);
+                }
+            } else {
+                checkRange(binding, value, violations);
+            }
+        }
+        return violations;
+    }
+
+    private void checkRange(EnvBinding binding, Object value, List<String> violations) {
+        if (!(value instanceof Number number)) return;
+        final double doubleValue = number.doubleValue();
+        if (Double.isNaN(doubleValue)) {
+            violations.add("[%s] %s is not within %s and %s".formatted(binding.name(), value, binding.env().min(), binding.env().max()));
+        } else if (doubleValue < binding.env().min()) {
+            violations.add("[%s] %s must be greater than or equal to %s".formatted(binding.name(), value, binding.env().min()));
+        } else if (doubleValue > binding.env().max()) {
+            violations.add("[%s] %s must be less than or equal to %s".formatted(binding.name(), value, binding.env().max()));
+        }
+    }
+
+    /**
+     * Converts the given value to the target type.
+     *
+     * @param value      the raw value, may be {@literal null}
+     * @param targetType the target type
+     * @param separator  the collections elements separator
+     * @return the converted value, {@code null} if the target type is not supported.
+     */
+    private Object convert(String value, Type targetType, String separator) {
+        if (targetType instanceof Class<?> targetClass) {
+            if (targetClass.equals(List.class)) {
+                return parseList(String.class, value, separator);
+            } else if (targetClass.equals(Set.class)) {
+                return parseSet(String.class, value, separator);
+            } else if (targetClass.equals(ByteBuffer.class)) {
+                return value == null ? null : ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
             } else {
-                return (T) parseValue(rawType.getClass(), envValue);
+                return parseValue(targetClass, value);
             }
+        }
 
-        } catch (Throwable t) {
-            // TODO handle silence fail
-            log.severe(t.getMessage());
+        if (!(targetType instanceof ParameterizedType parameterizedType)) {
+            return null;
+        }
+
+        final var rawType = parameterizedType.getRawType();
+        if (rawType.equals(List.class)) {
+            return parseList(parameterizedType, value, separator);
+        } else if (rawType.equals(Set.class)) {
+            return parseSet(parameterizedType, value, separator);
+        } else {
+            return parseValue(rawType.getClass(), value);
+        }
+    }
+
+    /**
+     * The value of an absent variable without a default, an empty collection for collection types, {@code null} otherwise.
+     */
+    private Object absentValue(EnvBinding binding) {
+        final var targetType = binding.targetType();
+        final var rawType = targetType instanceof ParameterizedType parameterizedType ? parameterizedType.getRawType() : targetType;
+        if (rawType.equals(List.class) || rawType.equals(Set.class)) {
+            return convert(null, targetType, binding.env().separator());
         }
         return null;
     }
 
+    /**
+     * Copies the given shared default value, so each bind gets its own collection or buffer view.
+     */
+    private Object copyOf(Object value) {
+        if (value instanceof List<?> list) {
+            return new ArrayList<>(list);
+        } else if (value instanceof Set<?> set) {
+            return new LinkedHashSet<>(set);
+        } else if (value instanceof ByteBuffer buffer) {
+            return buffer.duplicate();
+        }
+        return value;
+    }
+
+    /**
+     * Whether {@link Env#min()}/{@link Env#max()} can be checked against the given type.
+     */
+    private boolean isNumeric(Type type) {
+        if (type instanceof ParameterizedType parameterizedType) {
+            final var rawType = parameterizedType.getRawType();
+            return (rawType.equals(List.class) || rawType.equals(Set.class)) && isNumeric(getGenericType(type));
+        }
+        return type instanceof Class<?> clazz && NUMERIC_TYPES.contains(clazz);
+    }
+
+    static Object unmodifiable(Object value) {
+        if (value instanceof List<?> list) {
+            return Collections.unmodifiableList(list);
+        } else if (value instanceof Set<?> set) {
+            return Collections.unmodifiableSet(set);
+        }
+        return value;
+    }
 
     /**
      * Parses a primitive type from the given value string
@@ -113,26 +436,109 @@ public class EnvParser {
      * @throws IllegalStateException if the passed type is not a primitive type.
      */
     private Object parseValue(Class<?> type, String value) {
-        if (type.equals(int.class) || type.equals(Integer.class)) {
-            return Integer.parseInt(value);
-        } else if (type.equals(short.class) || type.equals(Short.class)) {
-            return Short.parseShort(value);
-        } else if (type.equals(long.class) || type.equals(Long.class)) {
-            return Long.parseLong(value);
-        } else if (type.equals(double.class) || type.equals(Double.class)) {
-            return Double.parseDouble(value);
-        } else if (type.equals(float.class) || type.equals(Float.class)) {
-            return Float.parseFloat(value);
-        } else if (type.equals(String.class)) {
-            return value;
-        } else if (type.equals(Object.class)) {
-            return value;
-        } else if (type.equals(Number.class)) {
-            return new BigDecimal(value);
+        if (value == null) {
+            if (type.equals(String.class) || type.equals(Object.class)) {
+                return null;
+            }
+            throw new NumberFormatException("Cannot parse null string: null");
+        }
+        return parseValue(type, value, 0, value.length());
+    }
+
+    /**
+     * Parses a primitive type from the {@code [start, end)} range of the given value without
+     * copying it, numeric values are trimmed before being converted. Decimal values, i.e. {@code double},
+     * {@code float} and non integer {@link Number} values, are still copied out of the range.
+     *
+     * @param type  the primitive type class
+     * @param value the string holding the representation of that type
+     * @param start the start index, inclusive
+     * @param end   the end index, exclusive
+     * @return the parsed Object
+     * @throws IllegalStateException if the passed type is not a primitive type.
+     * @throws NumberFormatException holding the offending range, if the value cannot be parsed.
+     */
+    private Object parseValue(Class<?> type, String value, int start, int end) {
+        if (type.equals(String.class) || type.equals(Object.class)) {
+            return start == 0 && end == value.length() ? value : value.substring(start, end);
+        }
+
+        final int from = trimStart(value, start, end);
+        final int to = trimEnd(value, from, end);
+        try {
+            if (type.equals(int.class) || type.equals(Integer.class)) {
+                return Integer.parseInt(value, from, to, 10);
+            } else if (type.equals(short.class) || type.equals(Short.class)) {
+                return parseShort(value, from, to);
+            } else if (type.equals(long.class) || type.equals(Long.class)) {
+                return Long.parseLong(value, from, to, 10);
+            } else if (type.equals(double.class) || type.equals(Double.class)) {
+                // the JDK has no range overload for floating point values
+                return Double.parseDouble(value.substring(from, to));
+            } else if (type.equals(float.class) || type.equals(Float.class)) {
+                return Float.parseFloat(value.substring(from, to));
+            } else if (type.equals(Number.class)) {
+                return parseBigDecimal(value, from, to);
+            }
+        } catch (NumberFormatException ex) {
+            // the range overloads report neither the input nor, for empty ranges, any message
+            final var detail = ex.getMessage() == null || ex.getMessage().isEmpty() ? "" : " (%s)".formatted(ex.getMessage());
+            throw new NumberFormatException("For input string: \"%s\" at [%d, %d)%s".formatted(value.substring(start, end), start, end, detail));
         }
         throw new UnsupportedTypeException(type.getTypeName());
     }
 
+    private short parseShort(String value, int start, int end) {
+        final int parsed = Integer.parseInt(value, start, end, 10);
+        if (parsed < Short.MIN_VALUE || parsed > Short.MAX_VALUE) {
+            throw new NumberFormatException("Value out of range of short");
+        }
+        return (short) parsed;
+    }
+
+    /**
+     * Parses a {@link BigDecimal} from the given range, plain integers that fit in a {@code long}
+     * are parsed in place, anything else falls back to {@link BigDecimal#BigDecimal(String)}.
+     */
+    private BigDecimal parseBigDecimal(String value, int start, int end) {
+        if (isPlainLong(value, start, end)) {
+            return BigDecimal.valueOf(Long.parseLong(value, start, end, 10));
+        }
+        return new BigDecimal(value.substring(start, end));
+    }
+
+    private boolean isPlainLong(String value, int start, int end) {
+        int i = start;
+        if (i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            i++;
+        }
+        // 18 digits always fit in a long
+        if (i == end || end - i > 18) {
+            return false;
+        }
+        for (; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int trimStart(String value, int start, int end) {
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(String value, int start, int end) {
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
     /**
      * Parses a set type from the given String value
      *
@@ -140,9 +546,8 @@ public class EnvParser {
      * @param value     the String representation of the Set elements
      * @param separator the string separator of the elements
      * @return Object of type Set
-     * @throws Throwable if the instantiation of the {@link LinkedHashSet} failed for some reason.
      */
-    private Object parseSet(Type type, String value, String separator) throws Throwable {
+    private Object parseSet(Type type, String value, String separator) {
         final var elementType = getGenericType(type);
         return parseSet(elementType, value, separator);
     }
@@ -151,65 +556,138 @@ public class EnvParser {
      * Parses a set type from the given String value
      *
      * @param elementType elementType class
-     * @param value       the String representation of the List elements
+     * @param value       the String representation of the Set elements
      * @param separator   the string separator of the elements
-     * @return Object of type List
-     * @throws Throwable if the instantiation of the {@link ArrayList} failed for some reason.
+     * @return Object of type Set
      */
-    @SuppressWarnings("unchecked")
-    private <E> Object parseSet(Class<E> elementType, String value, String separator) throws Throwable {
-        final var parts = split(value, separator);
-        final var set = (List<Object>) LinkedHashSet.class.getDeclaredConstructor().newInstance();
-        return parseCollection(elementType, set, parts);
+    private <E> Object parseSet(Class<E> elementType, String value, String separator) {
+        return parseCollection(elementType, new LinkedHashSet<>(), value, separator);
     }
 
     /**
-     * Parses a set type from the given String value
+     * Parses a list type from the given String value
      *
      * @param type      a field of {@link List} type
      * @param value     the String representation of the List elements
      * @param separator the string separator of the elements
      * @return Object of type List
-     * @throws Throwable if the instantiation of the {@link ArrayList} failed for some reason.
      */
-    private Object parseList(Type type, String value, String separator) throws Throwable {
+    private Object parseList(Type type, String value, String separator) {
         final var elementType = getGenericType(type);
         return parseList(elementType, value, separator);
     }
 
 
     /**
-     * Parses a set type from the given String value
+     * Parses a list type from the given String value
      *
      * @param elementType elementType class
      * @param value       the String representation of the List elements
      * @param separator   the string separator of the elements
      * @return Object of type List
-     * @throws Throwable if the instantiation of the {@link ArrayList} failed for some reason.
      */
-    @SuppressWarnings("unchecked")
-    private <E> Object parseList(Class<E> elementType, String value, String separator) throws Throwable {
-        final var parts = split(value, separator);
-        final var list = (List<Object>) ArrayList.class.getDeclaredConstructor().newInstance();
-        return parseCollection(elementType, list, parts);
+    private <E> Object parseList(Class<E> elementType, String value, String separator) {
+        final List<Object> list = isLiteral(separator)
+                ? new ArrayList<>(countParts(value, separator))
+                : new ArrayList<>();
+        return parseCollection(elementType, list, value, separator);
     }
 
     /**
-     * Populates the parts to the given collection
+     * Populates the parts of the given value to the given collection.
+     * <p>
+     * Literal separators are scanned in place, so each element is parsed directly from its range
+     * in {@code value}, regex separators fall back to {@link String#split(String)}.
+     * Both paths follow the {@link String#split(String)} semantics, trailing empty parts are dropped.
+     * </p>
      *
      * @param elementType the collection generic type
      * @param collection  a collection instance.
-     * @param parts       the string parts represents the collection elements
+     * @param value       the string representation of the collection elements
+     * @param separator   the string elements separator
      * @return the populated collection
      */
     @SuppressWarnings("unchecked")
-    private <T> Collection<T> parseCollection(Class<?> elementType, Collection<Object> collection, String[] parts) {
-        for (final var part : parts) {
-            collection.add(parseValue(elementType, part));
+    private <T> Collection<T> parseCollection(Class<?> elementType, Collection<Object> collection, String value, String separator) {
+        if (value == null || value.length() == 0) return (Collection<T>) collection;
+
+        if (!isLiteral(separator)) {
+            final var parts = value.split(separator);
+            for (int index = 0; index < parts.length; index++) {
+                collection.add(parseElement(elementType, parts[index], 0, parts[index].length(), index));
+            }
+            return (Collection<T>) collection;
+        }
+
+        final int separatorLength = separator.length();
+        int pendingEmptyParts = 0;
+        int index = 0;
+        int start = 0;
+        while (start <= value.length()) {
+            int end = value.indexOf(separator, start);
+            if (end < 0) {
+                end = value.length();
+            }
+            if (end == start) {
+                pendingEmptyParts++;
+            } else {
+                for (; pendingEmptyParts > 0; pendingEmptyParts--) {
+                    final int emptyPart = start - pendingEmptyParts * separatorLength;
+                    collection.add(parseElement(elementType, value, emptyPart, emptyPart, index++));
+                }
+                collection.add(parseElement(elementType, value, start, end, index++));
+            }
+            start = end + separatorLength;
         }
         return (Collection<T>) collection;
     }
 
+    /**
+     * Parses the element at the given index of a collection, failures name the offending element.
+     */
+    private Object parseElement(Class<?> elementType, String value, int start, int end, int index) {
+        try {
+            return parseValue(elementType, value, start, end);
+        } catch (NumberFormatException ex) {
+            throw new NumberFormatException("element %d: %s".formatted(index, ex.getMessage()));
+        }
+    }
+
+    /**
+     * Counts the parts {@link #parseCollection} would produce for a literal separator.
+     */
+    private int countParts(String value, String separator) {
+        if (value == null || value.length() == 0) return 0;
+        int parts = 0;
+        int nonEmptyParts = 0;
+        int start = 0;
+        while (start <= value.length()) {
+            int end = value.indexOf(separator, start);
+            if (end < 0) {
+                end = value.length();
+            }
+            parts++;
+            if (end != start) {
+                nonEmptyParts = parts;
+            }
+            start = end + separator.length();
+        }
+        return nonEmptyParts;
+    }
+
+    /**
+     * Whether the separator can be matched literally, i.e. it holds no regex meta characters.
+     */
+    private boolean isLiteral(String separator) {
+        if (separator.isEmpty()) return false;
+        for (int i = 0; i < separator.length(); i++) {
+            if (REGEX_META_CHARACTERS.indexOf(separator.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private Class<?> getGenericType(Type type) {
         if (!(type instanceof ParameterizedType parameterizedType)) {
             return Object.class;
@@ -231,16 +709,4 @@ public class EnvParser {
 
     }
 
-    /**
-     * Splits the given {@code value} to parts using the {@code separator}.
-     *
-     * @param value     the string representation
-     * @param separator the string elements separator
-     * @return the split {@code value} parts
-     */
-    private String[] split(String value, String separator) {
-        if (value == null || value.length() == 0) return new String[0];
-        return value.split(separator);
-    }
-
 }
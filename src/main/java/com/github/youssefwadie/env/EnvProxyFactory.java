@@ -1,53 +1,179 @@
 package com.github.youssefwadie.env;
 
 import com.github.youssefwadie.env.annotations.Env;
+import com.github.youssefwadie.env.exceptions.EnvValidationException;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Creates proxies of interfaces with {@link Env} annotated methods.
+ * <p>
+ * Instances are thread-safe and meant to be shared, the created proxies are immutable and thread-safe as well.
+ * </p>
+ */
 public class EnvProxyFactory {
     private final EnvParser envParser;
+    private final Map<Class<?>, Map<String, EnvBinding>> bindingPlans = new ConcurrentHashMap<>();
 
     protected EnvProxyFactory(Map<String, String> environmentVariables) {
-        this.envParser = new EnvParser(environmentVariables);
+        this(environmentVariables, false, false);
+    }
+
+    protected EnvProxyFactory(Map<String, String> environmentVariables, boolean fileIndirection, boolean interpolation) {
+        this.envParser = new EnvParser(environmentVariables, fileIndirection, interpolation);
     }
 
     public EnvProxyFactory() {
         this.envParser = new EnvParser();
     }
 
+    /**
+     * Creates a factory of the system environment variables.
+     *
+     * @param fileIndirection Indicates whether every absent variable is read from the file named by its {@code <name>_FILE} variable.
+     */
+    public EnvProxyFactory(boolean fileIndirection) {
+        this(fileIndirection, false);
+    }
+
+    /**
+     * Creates a factory of the system environment variables.
+     *
+     * @param fileIndirection Indicates whether every absent variable is read from the file named by its {@code <name>_FILE} variable.
+     * @param interpolation   Indicates whether the {@code ${NAME}} references of the values are resolved.
+     */
+    public EnvProxyFactory(boolean fileIndirection, boolean interpolation) {
+        this.envParser = new EnvParser(fileIndirection, interpolation);
+    }
+
+    /**
+     * Creates a factory of the snapshot environment variables, reusing and recording the snapshot values.
+     *
+     * @param snapshot must not be null.
+     * @throws IllegalArgumentException if the given {@code snapshot} is {@code null}.
+     */
+    public EnvProxyFactory(EnvSnapshot snapshot) {
+        this(snapshot, false);
+    }
+
+    /**
+     * Creates a factory of the snapshot environment variables, reusing and recording the snapshot values.
+     *
+     * @param snapshot      must not be null.
+     * @param interpolation Indicates whether the {@code ${NAME}} references of the values are resolved.
+     * @throws IllegalArgumentException if the given {@code snapshot} is {@code null}.
+     */
+    public EnvProxyFactory(EnvSnapshot snapshot, boolean interpolation) {
+        this.envParser = new EnvParser(snapshot, interpolation);
+    }
+
+    /**
+     * Creates a factory parsing with the given parser, e.g. shared with an {@link ObjectEnvParser},
+     * so both read the {@code <name>_FILE} secret files once.
+     *
+     * @param envParser must not be null.
+     * @throws IllegalArgumentException if the given {@code envParser} is {@code null}.
+     */
+    public EnvProxyFactory(EnvParser envParser) {
+        Assert.notNull(envParser, "envParser must not be null");
+        this.envParser = envParser;
+    }
 
     @SuppressWarnings("unchecked")
     public <T> T createProxy(Class<T> interfaceClass) {
+        assertInterface(interfaceClass);
+        Map<String, Object> metaData = collectMetaData(getBindingPlan(interfaceClass));
+        InvocationHandler envValueInvocationHandler = new EnvValueInvocationHandler(metaData);
+        return (T) Proxy.newProxyInstance(interfaceClass.getClassLoader(),
+                new Class[]{interfaceClass},
+                envValueInvocationHandler);
+    }
+
+    /**
+     * Validates all the methods of the given interface in one pass, without creating a proxy.
+     *
+     * @param interfaceClass the interface class, must not be {@literal null}.
+     * @throws IllegalArgumentException if the given interfaceClass is not an interface or has inconsistent {@link Env} attributes.
+     * @throws EnvValidationException   holding the violations of all the methods.
+     */
+    public void validate(Class<?> interfaceClass) {
+        assertInterface(interfaceClass);
+        final var violations = new ArrayList<String>();
+        for (EnvBinding binding : getBindingPlan(interfaceClass).values()) {
+            try {
+                envParser.parse(binding);
+            } catch (EnvValidationException ex) {
+                violations.addAll(ex.getViolations());
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new EnvValidationException(violations);
+        }
+    }
+
+    /**
+     * Drops the cached contents of the {@code <name>_FILE} secret files, they are read again by the next {@code createProxy}.
+     * The cache of a shared {@link EnvParser} is dropped for all its users.
+     */
+    public void clearFileCache() {
+        envParser.clearFileCache();
+    }
+
+    private void assertInterface(Class<?> interfaceClass) {
         Assert.notNull(interfaceClass, "interfaceClass must not be null");
 
         if (!interfaceClass.isInterface()) {
             throw new IllegalArgumentException("interfaceClass must be an interface class");
         }
-        Map<String, Object> metaData = collectMetaData(interfaceClass);
-        InvocationHandler envValueInvocationHandler = new EnvValueInvocationHandler(metaData);
-        return (T) Proxy.newProxyInstance(interfaceClass.getClassLoader(),
-                new Class[]{interfaceClass},
-                envValueInvocationHandler);
     }
 
-    private Map<String, Object> collectMetaData(Class<?> interfaceClass) {
+    /**
+     * Gets the binding plan of the given interface, created outside the map, so the reflection and the default value
+     * conversion do not block other interfaces, only the first stored plan is used.
+     */
+    private Map<String, EnvBinding> getBindingPlan(Class<?> interfaceClass) {
+        final var bindingPlan = bindingPlans.get(interfaceClass);
+        if (bindingPlan != null) {
+            return bindingPlan;
+        }
+        final var created = createBindingPlan(interfaceClass);
+        final var existing = bindingPlans.putIfAbsent(interfaceClass, created);
+        return existing == null ? created : existing;
+    }
+
+    private Map<String, EnvBinding> createBindingPlan(Class<?> interfaceClass) {
         Method[] methods = interfaceClass.getMethods();
-        final Map<String, Object> methodNameToEnvValue = new HashMap<>();
+        final Map<String, EnvBinding> methodNameToBinding = new HashMap<>();
         for (Method method : methods) {
             Env env = method.getAnnotation(Env.class);
+            if (env == null && (method.isDefault() || Modifier.isStatic(method.getModifiers()))) {
+                // implemented by the interface
+                continue;
+            }
             if (env == null) {
                 throw new UnsupportedOperationException(String.format("Method [%s] must be annotated with @Env", method.getName()));
             } else if (method.getParameterCount() != 0) {
                 throw new UnsupportedOperationException(String.format("Method [%s] must take no args", method.getName()));
             }
-            methodNameToEnvValue.put(method.getName(), envParser.parse(env, method.getGenericReturnType()));
+            methodNameToBinding.put(method.getName(), envParser.bind(env, method.getGenericReturnType()));
         }
 
+        return Collections.unmodifiableMap(methodNameToBinding);
+    }
+
+    private Map<String, Object> collectMetaData(Map<String, EnvBinding> methodNameToBinding) {
+        final Map<String, Object> methodNameToEnvValue = new HashMap<>();
+        methodNameToBinding.forEach((methodName, binding) ->
+                methodNameToEnvValue.put(methodName, EnvParser.unmodifiable(envParser.parse(binding))));
         return Collections.unmodifiableMap(methodNameToEnvValue);
     }
 
@@ -60,7 +186,12 @@ public class EnvProxyFactory {
 
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-            return methodNameToEnvValue.get(method.getName());
+            if (method.isDefault() && !methodNameToEnvValue.containsKey(method.getName())) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            final var value = methodNameToEnvValue.get(method.getName());
+            // buffers hold a position, so each call gets its own view
+            return value instanceof ByteBuffer buffer ? buffer.duplicate() : value;
         }
     }
 }
@@ -0,0 +1,314 @@
+package com.github.youssefwadie.env;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * A persisted snapshot of converted environment values, used to skip the conversion on warm startups.
+ * <p>
+ * The snapshot file is memory mapped and its values are decoded straight from the mapping on every lookup.
+ * It is only used if it was written from the same environment variables, otherwise every value is parsed
+ * again and the file is rewritten on {@link #save()}. Entries are keyed by the binding signature of
+ * the annotated member, so a changed member type or {@code @Env} attribute is simply a miss, and only the
+ * entries read or recorded since the snapshot was loaded are saved.
+ * </p>
+ * <p>
+ * The file holds the converted values in plain text, secrets included, it is written readable by its owner only
+ * on file systems supporting POSIX permissions.
+ * </p>
+ * <pre>{@code
+ * final EnvSnapshot snapshot = EnvSnapshot.load(Path.of("env.snapshot"));
+ * final AppConfig appConfig = new ObjectEnvParser(snapshot, true).parse(AppConfig.class);
+ * snapshot.save();
+ * }</pre>
+ * <p>
+ * Snapshots are thread-safe, values may be recorded while being saved.
+ * </p>
+ */
+public final class EnvSnapshot {
+    private static final int MAGIC = 0x454E5653;
+    private static final int VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte SHORT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte FLOAT = 6;
+    private static final byte BIG_DECIMAL = 7;
+    private static final byte LIST = 8;
+    private static final byte SET = 9;
+
+    /**
+     * Returned by {@link #get(String)} for keys without a valid entry, recorded values may be {@code null}.
+     */
+    static final Object MISSING = new Object();
+
+    private final static Logger log = Logger.getLogger(EnvSnapshot.class.getName());
+    private final Path file;
+    private final Map<String, String> environmentVariables;
+    private final long environmentHash;
+    private final Map<String, ByteBuffer> entries = new ConcurrentHashMap<>();
+    private final Set<String> usedKeys = ConcurrentHashMap.newKeySet();
+
+    private EnvSnapshot(Path file, Map<String, String> environmentVariables) {
+        this.file = file;
+        this.environmentVariables = environmentVariables;
+        this.environmentHash = hash(environmentVariables);
+    }
+
+    /**
+     * Loads the snapshot of the system environment variables from the given file.
+     *
+     * @param file the snapshot file, must not be {@literal null}, it does not have to exist.
+     * @return the loaded snapshot, empty if the file is missing, corrupted or written from other variables.
+     */
+    public static EnvSnapshot load(Path file) {
+        return load(file, System.getenv());
+    }
+
+    static EnvSnapshot load(Path file, Map<String, String> environmentVariables) {
+        Assert.notNull(file, "file must not be null");
+        Assert.notEmpty(environmentVariables, "environmentVariables cannot be empty");
+        final var snapshot = new EnvSnapshot(file, environmentVariables);
+        try {
+            snapshot.map();
+        } catch (NoSuchFileException ignored) {
+            // cold start
+        } catch (IOException | RuntimeException ex) {
+            log.warning("ignoring snapshot %s: %s".formatted(file, ex));
+            snapshot.entries.clear();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Writes the values read or recorded since the snapshot was loaded to the snapshot file, replacing it atomically.
+     *
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    public void save() {
+        Path tempFile = null;
+        try {
+            final var parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            tempFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp", ownerOnly(parent));
+            // a stable copy, so the written count matches the written entries while values are being recorded,
+            // entries of removed or renamed members are left behind
+            final var entries = new HashMap<>(this.entries);
+            entries.keySet().retainAll(usedKeys);
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(environmentHash);
+                out.writeInt(entries.size());
+                for (var entry : entries.entrySet()) {
+                    writeBytes(out, entry.getKey().getBytes(StandardCharsets.UTF_8));
+                    final var value = new byte[entry.getValue().remaining()];
+                    entry.getValue().duplicate().get(value);
+                    writeBytes(out, value);
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tempFile = null;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private static FileAttribute<?>[] ownerOnly(Path directory) {
+        if (!directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return new FileAttribute<?>[0];
+        }
+        return new FileAttribute<?>[]{PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"))};
+    }
+
+    private static void deleteQuietly(Path tempFile) {
+        if (tempFile == null) return;
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException ex) {
+            log.warning("cannot delete %s: %s".formatted(tempFile, ex));
+        }
+    }
+
+    Map<String, String> environmentVariables() {
+        return environmentVariables;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Decodes the value recorded under the given key, every call returns a fresh instance.
+     * A damaged entry is dropped, so the value is parsed and recorded again.
+     *
+     * @return the decoded value, {@link #MISSING} if there is no valid entry.
+     */
+    Object get(String key) {
+        final var value = entries.get(key);
+        if (value == null) {
+            return MISSING;
+        }
+        try {
+            final var buffer = value.duplicate();
+            final var decoded = read(buffer);
+            if (buffer.hasRemaining()) {
+                throw new IllegalStateException("%d trailing bytes".formatted(buffer.remaining()));
+            }
+            usedKeys.add(key);
+            return decoded;
+        } catch (RuntimeException ex) {
+            log.warning("dropping damaged snapshot entry %s: %s".formatted(key.replace('\u0000', '|'), ex));
+            entries.remove(key, value);
+            return MISSING;
+        }
+    }
+
+    /**
+     * Records the given value, values of unsupported types are not recorded.
+     */
+    void put(String key, Object value) {
+        final var bytes = new ByteArrayOutputStream();
+        try {
+            if (write(new DataOutputStream(bytes), value)) {
+                entries.put(key, ByteBuffer.wrap(bytes.toByteArray()).asReadOnlyBuffer());
+                usedKeys.add(key);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void map() throws IOException {
+        final MappedByteBuffer buffer;
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != environmentHash) {
+            return;
+        }
+        final int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            final var key = readString(buffer);
+            final int length = buffer.getInt();
+            entries.put(key, buffer.slice(buffer.position(), length).asReadOnlyBuffer());
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    private static boolean write(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(STRING);
+            writeBytes(out, string.getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer integer) {
+            out.writeByte(INTEGER);
+            out.writeInt(integer);
+        } else if (value instanceof Short shortValue) {
+            out.writeByte(SHORT);
+            out.writeShort(shortValue);
+        } else if (value instanceof Long longValue) {
+            out.writeByte(LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof Float floatValue) {
+            out.writeByte(FLOAT);
+            out.writeFloat(floatValue);
+        } else if (value instanceof BigDecimal bigDecimal) {
+            out.writeByte(BIG_DECIMAL);
+            writeBytes(out, bigDecimal.toString().getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Collection<?> collection) {
+            out.writeByte(value instanceof Set<?> ? SET : LIST);
+            out.writeInt(collection.size());
+            for (var element : collection) {
+                if (!write(out, element)) {
+                    return false;
+                }
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static Object read(ByteBuffer buffer) {
+        final byte tag = buffer.get();
+        return switch (tag) {
+            case NULL -> null;
+            case STRING -> readString(buffer);
+            case INTEGER -> buffer.getInt();
+            case SHORT -> buffer.getShort();
+            case LONG -> buffer.getLong();
+            case DOUBLE -> buffer.getDouble();
+            case FLOAT -> buffer.getFloat();
+            case BIG_DECIMAL -> new BigDecimal(readString(buffer));
+            case LIST, SET -> {
+                final int size = buffer.getInt();
+                final Collection<Object> collection = tag == LIST ? new ArrayList<>(size) : new LinkedHashSet<>();
+                for (int i = 0; i < size; i++) {
+                    collection.add(read(buffer));
+                }
+                yield collection;
+            }
+            default -> throw new IllegalStateException("unknown snapshot tag " + tag);
+        };
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * FNV-1a hash of the sorted environment variables, stable across JVMs.
+     */
+    private static long hash(Map<String, String> environmentVariables) {
+        long hash = 0xcbf29ce484222325L;
+        for (var entry : new TreeMap<>(environmentVariables).entrySet()) {
+            hash = hash(hash, entry.getKey());
+            hash = hash(hash, entry.getValue());
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        // separates the key from its value
+        return (hash ^ 0xFFFF) * 0x100000001b3L;
+    }
+}
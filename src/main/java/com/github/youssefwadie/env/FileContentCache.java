@@ -0,0 +1,99 @@
+package com.github.youssefwadie.env;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of file contents owned by a single {@link EnvParser}, keyed by path and invalidated when the file
+ * modification time or size changes, so the objects and proxies of a parser sharing a secret file read it once.
+ * <p>
+ * Entries of deleted files are dropped on their next read, and the whole cache can be cleared, e.g. after
+ * the configuration was bound. Files are copied rather than memory mapped, so rewriting or truncating a file
+ * never affects buffers already handed out, files larger than {@value #DIRECT_THRESHOLD} bytes are copied
+ * off the heap.
+ * </p>
+ */
+final class FileContentCache {
+    private static final long DIRECT_THRESHOLD = 64 * 1024;
+
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the content of the given file, reading it only if it was modified since the last read.
+     *
+     * @param file the file path
+     * @return a read-only view of the file content, positioned at its start.
+     * @throws IOException if the file cannot be read.
+     */
+    ByteBuffer read(Path file) throws IOException {
+        final var key = file.toAbsolutePath().normalize();
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        } catch (NoSuchFileException ex) {
+            entries.remove(key);
+            throw ex;
+        }
+        final var entry = entries.get(key);
+        if (entry != null && entry.isFresh(attributes)) {
+            return entry.content().duplicate();
+        }
+
+        final ByteBuffer content;
+        try (var channel = FileChannel.open(key, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("%s is too large: %d bytes".formatted(key, size));
+            }
+            final var buffer = size > DIRECT_THRESHOLD ? ByteBuffer.allocateDirect((int) size) : ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // reads until the end of the file
+            }
+            content = buffer.flip().asReadOnlyBuffer();
+        } catch (NoSuchFileException ex) {
+            entries.remove(key);
+            throw ex;
+        }
+        entries.put(key, new Entry(attributes.lastModifiedTime(), attributes.size(), content));
+        return content.duplicate();
+    }
+
+    /**
+     * Drops all the cached contents.
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Decodes the given UTF-8 content, trailing line terminators are dropped as a shell {@code $(cat file)} would.
+     */
+    static String decode(ByteBuffer content) {
+        final var text = StandardCharsets.UTF_8.decode(content.duplicate());
+        int end = text.length();
+        while (end > 0 && (text.charAt(end - 1) == '\n' || text.charAt(end - 1) == '\r')) {
+            end--;
+        }
+        return text.subSequence(0, end).toString();
+    }
+
+    private record Entry(FileTime lastModifiedTime, long size, ByteBuffer content) {
+        boolean isFresh(BasicFileAttributes attributes) {
+            return lastModifiedTime.equals(attributes.lastModifiedTime()) && size == attributes.size();
+        }
+    }
+}
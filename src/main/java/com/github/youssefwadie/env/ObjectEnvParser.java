@@ -1,21 +1,33 @@
 package com.github.youssefwadie.env;
 
 import com.github.youssefwadie.env.annotations.Env;
+import com.github.youssefwadie.env.exceptions.EnvValidationException;
 import com.github.youssefwadie.env.exceptions.NoArgsConstructorNotFoundException;
 import com.github.youssefwadie.env.exceptions.ParserException;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
+/**
+ * Populates the {@link Env} annotated fields of objects.
+ * <p>
+ * Instances are thread-safe and meant to be shared. Concurrent first calls for a class may each create its binding
+ * plan, but only the first stored plan is used, and its fields are made accessible before being published to other
+ * threads. Concurrently parsing the same instance is not supported.
+ * </p>
+ */
 public class ObjectEnvParser {
 
     private final static Logger log = Logger.getLogger(ObjectEnvParser.class.getName());
     private final EnvParser envParser;
     private final boolean silentFail;
+    private final Map<Class<?>, List<FieldBinding>> bindingPlans = new ConcurrentHashMap<>();
 
     /**
      * Creates an instance with the system environment actual variables
@@ -33,6 +45,66 @@ public class ObjectEnvParser {
         this(System.getenv(), silentFail);
     }
 
+    /**
+     * Creates an instance with the system environment actual variables.
+     *
+     * @param silentFail      Indicates whether to silently fail or raise an exception when an environment variable is not found.
+     * @param fileIndirection Indicates whether every absent variable is read from the file named by its {@code <name>_FILE} variable.
+     */
+    public ObjectEnvParser(boolean silentFail, boolean fileIndirection) {
+        this(silentFail, fileIndirection, false);
+    }
+
+    /**
+     * Creates an instance with the system environment actual variables.
+     *
+     * @param silentFail      Indicates whether to silently fail or raise an exception when an environment variable is not found.
+     * @param fileIndirection Indicates whether every absent variable is read from the file named by its {@code <name>_FILE} variable.
+     * @param interpolation   Indicates whether the {@code ${NAME}} references of the values are resolved.
+     */
+    public ObjectEnvParser(boolean silentFail, boolean fileIndirection, boolean interpolation) {
+        this.envParser = new EnvParser(fileIndirection, interpolation);
+        this.silentFail = silentFail;
+    }
+
+    /**
+     * Creates an instance with the snapshot environment variables, reusing and recording the snapshot values.
+     *
+     * @param snapshot   must not be null.
+     * @param silentFail Indicates whether to silently fail or raise an exception when an environment variable is not found.
+     * @throws IllegalArgumentException if the given {@code snapshot} is {@code null}.
+     */
+    public ObjectEnvParser(EnvSnapshot snapshot, boolean silentFail) {
+        this(snapshot, silentFail, false);
+    }
+
+    /**
+     * Creates an instance with the snapshot environment variables, reusing and recording the snapshot values.
+     *
+     * @param snapshot      must not be null.
+     * @param silentFail    Indicates whether to silently fail or raise an exception when an environment variable is not found.
+     * @param interpolation Indicates whether the {@code ${NAME}} references of the values are resolved.
+     * @throws IllegalArgumentException if the given {@code snapshot} is {@code null}.
+     */
+    public ObjectEnvParser(EnvSnapshot snapshot, boolean silentFail, boolean interpolation) {
+        this.envParser = new EnvParser(snapshot, interpolation);
+        this.silentFail = silentFail;
+    }
+
+    /**
+     * Creates an instance parsing with the given parser, e.g. shared with an {@link EnvProxyFactory},
+     * so both read the {@code <name>_FILE} secret files once.
+     *
+     * @param envParser  must not be null.
+     * @param silentFail Indicates whether to silently fail or raise an exception when an environment variable is not found.
+     * @throws IllegalArgumentException if the given {@code envParser} is {@code null}.
+     */
+    public ObjectEnvParser(EnvParser envParser, boolean silentFail) {
+        Assert.notNull(envParser, "envParser must not be null");
+        this.envParser = envParser;
+        this.silentFail = silentFail;
+    }
+
     /**
      * Creates a parser instance with the given environment variables
      *
@@ -40,8 +112,18 @@ public class ObjectEnvParser {
      * @throws IllegalArgumentException if the given {@code environmentVariables} is empty or {@code null}.
      */
     protected ObjectEnvParser(Map<String, String> environmentVariables, boolean silentFail) {
+        this(environmentVariables, silentFail, false, false);
+    }
+
+    /**
+     * Creates a parser instance with the given environment variables
+     *
+     * @param environmentVariables must not be null.
+     * @throws IllegalArgumentException if the given {@code environmentVariables} is empty or {@code null}.
+     */
+    protected ObjectEnvParser(Map<String, String> environmentVariables, boolean silentFail, boolean fileIndirection, boolean interpolation) {
         Assert.notEmpty(environmentVariables, "environmentVariables must not be null");
-        this.envParser = new EnvParser(environmentVariables);
+        this.envParser = new EnvParser(environmentVariables, fileIndirection, interpolation);
         this.silentFail = silentFail;
     }
 
@@ -51,13 +133,15 @@ public class ObjectEnvParser {
      * @param instance must not be {@literal null}.
      * @return the parsed instance
      * @throws IllegalArgumentException if the given clazz is null.
-     *                                  <h3>all the thrown exceptions are wrapped in a {@link ParserException}</h3>
+     * @throws EnvValidationException   if a field value violates its {@link Env} constraints.
+     *                                  <h3>all the other thrown exceptions are wrapped in a {@link ParserException}</h3>
      */
     public <T> T parse(T instance) {
         Assert.notNull(instance, "instance cannot be null");
-        List<Field> annotatedFields = getAnnotatedFields(instance);
         try {
-            return inject(instance, annotatedFields);
+            return inject(instance, getBindingPlan(instance.getClass()));
+        } catch (EnvValidationException ex) {
+            throw ex;
         } catch (Throwable t) {
             throw new ParserException(t);
         }
@@ -71,7 +155,8 @@ public class ObjectEnvParser {
      * @return the instantiated instance
      * @throws IllegalArgumentException           if the given clazz is null.
      * @throws NoArgsConstructorNotFoundException if the given clazz has no default (empty) constructor.
-     *                                            <h3>all the thrown exceptions are wrapped in a {@link ParserException}</h3>
+     * @throws EnvValidationException             if a field value violates its {@link Env} constraints.
+     *                                            <h3>all the other thrown exceptions are wrapped in a {@link ParserException}</h3>
      */
     public <T> T parse(Class<T> clazz) {
         Assert.notNull(clazz, "clazz cannot be null");
@@ -79,11 +164,43 @@ public class ObjectEnvParser {
             final var emptyConstructor = getEmptyConstructor(clazz);
             final T instance = emptyConstructor.newInstance();
             return parse(instance);
+        } catch (EnvValidationException ex) {
+            throw ex;
         } catch (Throwable t) {
             throw new ParserException(t);
         }
     }
 
+    /**
+     * Validates all the annotated fields of the given class in one pass, without instantiating it.
+     *
+     * @param clazz the class type, must not be {@literal null}.
+     * @throws IllegalArgumentException if the given clazz is null or has inconsistent {@link Env} attributes.
+     * @throws EnvValidationException   holding the violations of all the fields.
+     */
+    public void validate(Class<?> clazz) {
+        Assert.notNull(clazz, "clazz cannot be null");
+        final var violations = new ArrayList<String>();
+        for (var fieldBinding : getBindingPlan(clazz)) {
+            try {
+                envParser.parse(fieldBinding.binding());
+            } catch (EnvValidationException ex) {
+                violations.addAll(ex.getViolations());
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new EnvValidationException(violations);
+        }
+    }
+
+    /**
+     * Drops the cached contents of the {@code <name>_FILE} secret files, they are read again by the next {@code parse}.
+     * The cache of a shared {@link EnvParser} is dropped for all its users.
+     */
+    public void clearFileCache() {
+        envParser.clearFileCache();
+    }
+
     /**
      * Returns the empty constructor of the given clazz
      *
@@ -100,18 +217,20 @@ public class ObjectEnvParser {
     }
 
     /**
-     * Populates the given instance with the values in the list of fields.
+     * Populates the given instance with the values in the list of fields,
+     * constraint violations are never silent.
      *
-     * @param instance the object instance.
-     * @param fields   fields annotated with {@link Env}.
+     * @param instance      the object instance.
+     * @param fieldBindings the binding plan of the fields annotated with {@link Env}.
      * @return the populated instance.
+     * @throws EnvValidationException if a field value violates its {@link Env} constraints.
      */
-    private <T> T inject(T instance, List<Field> fields) {
-        for (var field : fields) {
-            field.setAccessible(true);
+    private <T> T inject(T instance, List<FieldBinding> fieldBindings) {
+        for (var fieldBinding : fieldBindings) {
             try {
-                Env env = field.getAnnotation(Env.class);
-                field.set(instance, envParser.parse(env, field.getGenericType()));
+                fieldBinding.field().set(instance, envParser.parse(fieldBinding.binding()));
+            } catch (EnvValidationException ex) {
+                throw ex;
             } catch (Throwable t) {
                 log.severe(t.getMessage());
                 if (!silentFail) {
@@ -124,14 +243,44 @@ public class ObjectEnvParser {
     }
 
     /**
-     * Gets the annotated fields with {@link Env} of the given instance
+     * Gets the binding plan of the given class, created once per class. The plan is created outside the map,
+     * so concurrent first calls may each create one, but only the first stored plan is used.
+     *
+     * @param clazz not-null class
+     * @return the bindings of all annotated fields
+     */
+    private List<FieldBinding> getBindingPlan(Class<?> clazz) {
+        final var bindingPlan = bindingPlans.get(clazz);
+        if (bindingPlan != null) {
+            return bindingPlan;
+        }
+        final var created = createBindingPlan(clazz);
+        final var existing = bindingPlans.putIfAbsent(clazz, created);
+        return existing == null ? created : existing;
+    }
+
+    private List<FieldBinding> createBindingPlan(Class<?> clazz) {
+        return getAnnotatedFields(clazz).stream()
+                .map(field -> {
+                    field.setAccessible(true);
+                    Env env = field.getAnnotation(Env.class);
+                    return new FieldBinding(field, envParser.bind(env, field.getGenericType()));
+                })
+                .toList();
+    }
+
+    /**
+     * Gets the annotated fields with {@link Env} of the given class
      *
-     * @param instance not-null instance
+     * @param clazz not-null class
      * @return a list of all annotated fields
      */
-    private List<Field> getAnnotatedFields(Object instance) {
-        return Arrays.stream(instance.getClass().getDeclaredFields())
+    private List<Field> getAnnotatedFields(Class<?> clazz) {
+        return Arrays.stream(clazz.getDeclaredFields())
                 .filter(field -> field.isAnnotationPresent(Env.class))
                 .toList();
     }
+
+    private record FieldBinding(Field field, EnvBinding binding) {
+    }
 }
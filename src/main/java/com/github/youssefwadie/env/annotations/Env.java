@@ -8,7 +8,42 @@ import java.lang.annotation.Target;
 @Target({ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Env {
+    /**
+     * Marks {@link #defaultValue()} as unset, environment variables cannot hold a NUL character.
+     */
+    String NO_DEFAULT_VALUE = "\u0000";
+
     String value();
 
     String separator() default ",";
+
+    /**
+     * The value used when the environment variable is absent, converted once per annotated type.
+     */
+    String defaultValue() default NO_DEFAULT_VALUE;
+
+    /**
+     * Whether the environment variable must be present and convertible to the target type.
+     */
+    boolean required() default false;
+
+    /**
+     * The inclusive lower bound of numeric values, checked against every element of a collection.
+     */
+    double min() default Double.NEGATIVE_INFINITY;
+
+    /**
+     * The inclusive upper bound of numeric values, checked against every element of a collection.
+     */
+    double max() default Double.POSITIVE_INFINITY;
+
+    /**
+     * Whether an absent variable is read from the file named by the {@code <value>_FILE} variable, docker secrets style.
+     */
+    boolean fromFile() default false;
+
+    /**
+     * A regular expression the whole raw value must match, empty means no pattern.
+     */
+    String pattern() default "";
 }
@@ -0,0 +1,18 @@
+package com.github.youssefwadie.env.exceptions;
+
+import java.util.List;
+
+public class EnvValidationException extends ParserException {
+    public static final String VALIDATION_FAILED_MSG_TEMPLATE = "Environment validation failed: %s";
+
+    private final List<String> violations;
+
+    public EnvValidationException(List<String> violations) {
+        super(VALIDATION_FAILED_MSG_TEMPLATE.formatted(String.join("; ", violations)));
+        this.violations = List.copyOf(violations);
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+}
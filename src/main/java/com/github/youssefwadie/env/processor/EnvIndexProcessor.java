@@ -0,0 +1,116 @@
+package com.github.youssefwadie.env.processor;
+
+import com.github.youssefwadie.env.EnvIndex;
+import com.github.youssefwadie.env.annotations.Env;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes the binary names of the types bound by the library to the {@link EnvIndex#INDEX_RESOURCE} resource,
+ * so they can be warmed up at startup without scanning the classpath.
+ * <p>
+ * A class is indexed if it declares {@link Env} fields, an interface if it declares {@link Env} methods, all of
+ * its abstract methods are annotated and none of its annotated methods takes arguments. The index of a previous
+ * compilation is merged, so incremental builds compiling a subset of the sources keep the other types, names which
+ * no longer resolve or qualify are dropped, and an empty index replaces a stale one.
+ * </p>
+ */
+@SupportedAnnotationTypes("com.github.youssefwadie.env.annotations.Env")
+public class EnvIndexProcessor extends AbstractProcessor {
+    private final Set<String> typeNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            mergePreviousIndex();
+            writeIndex();
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(Env.class)) {
+            if ((element.getKind() == ElementKind.FIELD || element.getKind() == ElementKind.METHOD)
+                    && element.getEnclosingElement() instanceof TypeElement type && isBound(type)) {
+                typeNames.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the type is accepted by {@code ObjectEnvParser} or {@code EnvProxyFactory}.
+     */
+    private boolean isBound(TypeElement type) {
+        final var members = type.getEnclosedElements();
+        if (type.getKind() != ElementKind.INTERFACE) {
+            return ElementFilter.fieldsIn(members).stream().anyMatch(this::hasEnv);
+        }
+        final var methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type));
+        return ElementFilter.methodsIn(members).stream().anyMatch(this::hasEnv)
+                && methods.stream().filter(this::isAbstractInterfaceMethod).allMatch(this::hasEnv)
+                && methods.stream().filter(this::hasEnv).allMatch(method -> method.getParameters().isEmpty());
+    }
+
+    private boolean isAbstractInterfaceMethod(ExecutableElement method) {
+        return method.getModifiers().contains(Modifier.ABSTRACT)
+                && method.getEnclosingElement().getKind() == ElementKind.INTERFACE;
+    }
+
+    private boolean hasEnv(Element element) {
+        return element.getAnnotation(Env.class) != null;
+    }
+
+    /**
+     * Adds the still bound types of the index written by a previous compilation.
+     */
+    private void mergePreviousIndex() {
+        final var elements = processingEnv.getElementUtils();
+        try {
+            final var resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", EnvIndex.INDEX_RESOURCE);
+            try (var reader = new BufferedReader(resource.openReader(true))) {
+                reader.lines().map(String::strip).filter(line -> !line.isEmpty()).forEach(typeName -> {
+                    // nested types are written with their binary name
+                    final var type = elements.getTypeElement(typeName.replace('$', '.'));
+                    if (type != null && isBound(type)) {
+                        typeNames.add(typeName);
+                    }
+                });
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // no previous index
+        }
+    }
+
+    private void writeIndex() {
+        try {
+            final var resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", EnvIndex.INDEX_RESOURCE);
+            try (Writer writer = resource.openWriter()) {
+                for (var typeName : typeNames) {
+                    writer.write(typeName);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "cannot write %s: %s".formatted(EnvIndex.INDEX_RESOURCE, ex.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.github.youssefwadie.env;
+
+import com.github.youssefwadie.env.interfaces.ServerConfig;
+import com.github.youssefwadie.env.model.AppConfig;
+import com.github.youssefwadie.env.model.ConstrainedConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Hammers shared parser and factory instances from many threads. The throughput runs, reporting the operations
+ * per second by thread count, are tagged {@code stress} and only run with the {@code stress} profile.
+ */
+class ConcurrencyStressTest {
+    private final static int OPERATIONS_PER_THREAD = 2_000;
+    private final static int MAX_THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+    private final static List<String> ALLOWED_ORIGINS = List.of("http://localhost:4200", "https://example.org");
+    private final static List<BigDecimal> ADMIN_IDS = List.of(BigDecimal.valueOf(1), BigDecimal.valueOf(2), BigDecimal.valueOf(3));
+
+    private ObjectEnvParser objectEnvParser;
+    private EnvProxyFactory envProxyFactory;
+    private ServerConfig sharedProxy;
+
+    @BeforeEach
+    void setUp() {
+        final var env = new HashMap<String, String>();
+        env.put("DB_USERNAME", "youssef");
+        env.put("DB_PASSWORD", "youssef");
+        env.put("DB_URL", "jdbc:mysql://${DB_USERNAME}@localhost:${SERVER_PORT}/app");
+        env.put("SERVER_PORT", "10");
+        env.put("ALLOWED_ORIGINS", String.join(",", ALLOWED_ORIGINS));
+        env.put("ADMIN_IDS", "1,2,3");
+        objectEnvParser = new ObjectEnvParser(env, false);
+        envProxyFactory = new EnvProxyFactory(env, false, true);
+        sharedProxy = envProxyFactory.createProxy(ServerConfig.class);
+    }
+
+    @Test
+    void platformThreads() throws Exception {
+        run(MAX_THREADS, Executors::newFixedThreadPool);
+    }
+
+    @Test
+    void virtualThreads() throws Exception {
+        final var newVirtualThreadExecutor = assumeVirtualThreads();
+        run(MAX_THREADS * 8, ignored -> newVirtualThreadExecutor.get());
+    }
+
+    @Test
+    @Tag("stress")
+    void platformThreadsThroughput() throws Exception {
+        for (int threads = 1; threads <= MAX_THREADS; threads *= 2) {
+            report("platform", threads, run(threads, Executors::newFixedThreadPool));
+        }
+    }
+
+    @Test
+    @Tag("stress")
+    void virtualThreadsThroughput() throws Exception {
+        final var newVirtualThreadExecutor = assumeVirtualThreads();
+        for (int threads = 1; threads <= MAX_THREADS * 8; threads *= 4) {
+            report("virtual", threads, run(threads, ignored -> newVirtualThreadExecutor.get()));
+        }
+    }
+
+    /**
+     * Runs {@link #OPERATIONS_PER_THREAD} operations on each of the given threads, all starting at once.
+     *
+     * @return the operations per second
+     */
+    private double run(int threads, IntFunction<ExecutorService> executorFactory) throws Exception {
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final var start = new CountDownLatch(1);
+        final var done = new CountDownLatch(threads);
+        final ExecutorService executor = executorFactory.apply(threads);
+        try {
+            for (int thread = 0; thread < threads; thread++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                            hammer(i);
+                        }
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            final long startNanos = System.nanoTime();
+            start.countDown();
+            Assertions.assertTrue(done.await(1, TimeUnit.MINUTES), "stress run timed out");
+            final long elapsedNanos = System.nanoTime() - startNanos;
+
+            if (!failures.isEmpty()) {
+                Assertions.fail("%d failures with %d threads".formatted(failures.size(), threads), failures.peek());
+            }
+            return (double) threads * OPERATIONS_PER_THREAD * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void report(String kind, int threads, double operationsPerSecond) {
+        System.out.printf("%-8s threads=%-4d ops/s=%,.0f%n", kind, threads, operationsPerSecond);
+    }
+
+    /**
+     * Runs one of the shared operations, checking its result.
+     */
+    private void hammer(int operation) {
+        switch (operation % 4) {
+            case 0 -> {
+                AppConfig appConfig = objectEnvParser.parse(AppConfig.class);
+                check(appConfig.getPort().equals(10) && appConfig.getAllowedOrigins().equals(ALLOWED_ORIGINS)
+                        && appConfig.getAdminIds().equals(List.of(1, 2, 3)), "parse(AppConfig.class)");
+            }
+            case 1 -> {
+                ConstrainedConfig constrainedConfig = objectEnvParser.parse(ConstrainedConfig.class);
+                check(constrainedConfig.getWorkerThreads() == 4
+                        && constrainedConfig.getRetryDelays().equals(List.of(100L, 200L, 400L)), "parse(ConstrainedConfig.class)");
+            }
+            case 2 -> {
+                ServerConfig proxy = envProxyFactory.createProxy(ServerConfig.class);
+                check(proxy.getDbUrl().equals("jdbc:mysql://youssef@localhost:10/app"), "createProxy(ServerConfig.class)");
+            }
+            default -> check(sharedProxy.getPort().equals(10) && sharedProxy.getAdminIds().equals(ADMIN_IDS)
+                    && Objects.equals(sharedProxy.getAllowedOrigins(), ALLOWED_ORIGINS), "shared proxy getters");
+        }
+    }
+
+    private void check(boolean condition, String operation) {
+        if (!condition) {
+            throw new AssertionError("unexpected result of " + operation);
+        }
+    }
+
+    private static Supplier<ExecutorService> assumeVirtualThreads() {
+        // looked up reflectively, the compile target predates virtual threads, run with the jdk21 profile
+        final var newVirtualThreadExecutor = findVirtualThreadExecutorFactory();
+        Assumptions.assumeTrue(newVirtualThreadExecutor != null, "virtual threads are not available");
+        return newVirtualThreadExecutor;
+    }
+
+    private static Supplier<ExecutorService> findVirtualThreadExecutorFactory() {
+        try {
+            final var method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return () -> {
+                try {
+                    return (ExecutorService) method.invoke(null);
+                } catch (ReflectiveOperationException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            };
+        } catch (NoSuchMethodException ex) {
+            return null;
+        }
+    }
+}
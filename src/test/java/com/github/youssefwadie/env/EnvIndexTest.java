@@ -0,0 +1,108 @@
+package com.github.youssefwadie.env;
+
+import com.github.youssefwadie.env.exceptions.EnvValidationException;
+import com.github.youssefwadie.env.interfaces.ArgumentMethodConfig;
+import com.github.youssefwadie.env.interfaces.ConstrainedServerConfig;
+import com.github.youssefwadie.env.interfaces.DefaultMethodConfig;
+import com.github.youssefwadie.env.interfaces.ParameterAnnotatedService;
+import com.github.youssefwadie.env.interfaces.PartiallyAnnotatedConfig;
+import com.github.youssefwadie.env.interfaces.SecretConfig;
+import com.github.youssefwadie.env.interfaces.ServerConfig;
+import com.github.youssefwadie.env.model.AppConfig;
+import com.github.youssefwadie.env.model.ConstrainedConfig;
+import com.github.youssefwadie.env.model.InvalidConstraintsConfig;
+import com.github.youssefwadie.env.model.InvalidDefaultConfig;
+import com.github.youssefwadie.env.processor.EnvIndexProcessor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.ToolProvider;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+
+class EnvIndexTest {
+    private ObjectEnvParser objectEnvParser;
+    private EnvProxyFactory envProxyFactory;
+
+    @BeforeEach
+    void setUp() {
+        final var env = new HashMap<String, String>();
+        env.put("DB_USERNAME", "youssef");
+        env.put("DB_PASSWORD", "youssef");
+        env.put("SERVER_PORT", "10");
+        objectEnvParser = new ObjectEnvParser(env, true);
+        envProxyFactory = new EnvProxyFactory(env);
+    }
+
+    @Test
+    void load() {
+        List<Class<?>> types = EnvIndex.load(getClass().getClassLoader());
+        Assertions.assertTrue(types.containsAll(List.of(AppConfig.class, ConstrainedConfig.class, ServerConfig.class, SecretConfig.class,
+                DefaultMethodConfig.class)));
+        Assertions.assertFalse(types.contains(PartiallyAnnotatedConfig.class));
+        Assertions.assertFalse(types.contains(ParameterAnnotatedService.class));
+        Assertions.assertFalse(types.contains(ArgumentMethodConfig.class));
+    }
+
+    @Test
+    void process_WhenNoTypeIsBound(@TempDir Path tempDir) throws Exception {
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        Assumptions.assumeTrue(compiler != null, "no system java compiler");
+        final var source = Files.writeString(tempDir.resolve("Service.java"), """
+                import com.github.youssefwadie.env.annotations.Env;
+
+                public interface Service {
+                    @Env("DB_HOST")
+                    String getDbHost(String fallback);
+                }
+                """);
+        final var output = Files.createDirectories(tempDir.resolve("classes"));
+        final var index = Files.createDirectories(output.resolve("META-INF/env")).resolve("types.idx");
+        Files.writeString(index, "com.example.Removed\n");
+        final var classpath = Path.of(EnvIndexProcessor.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+
+        final int exitCode = compiler.run(null, null, null, "-proc:only", "-processor", EnvIndexProcessor.class.getName(),
+                "-cp", classpath.toString(), "-d", output.toString(), source.toString());
+        Assertions.assertEquals(0, exitCode);
+        Assertions.assertEquals("", Files.readString(index));
+    }
+
+    @Test
+    void warmUp() {
+        Assertions.assertDoesNotThrow(() -> EnvIndex.warmUp(List.of(AppConfig.class, ConstrainedConfig.class, ServerConfig.class),
+                objectEnvParser, envProxyFactory));
+    }
+
+    @Test
+    void warmUp_WhenTypesAreInvalid() {
+        // ConstrainedServerConfig requires DB_HOST and allows SERVER_PORT up to 5,
+        // InvalidDefaultConfig and the InvalidConstraintsConfig classes have no valid binding plan
+        EnvValidationException exception = Assertions.assertThrows(EnvValidationException.class,
+                () -> EnvIndex.warmUp(List.of(ConstrainedServerConfig.class, InvalidDefaultConfig.class,
+                        InvalidConstraintsConfig.RequiredWithDefault.class, InvalidConstraintsConfig.RangeOnString.class,
+                        InvalidConstraintsConfig.RangeOnStringList.class, AppConfig.class), objectEnvParser, envProxyFactory));
+        final var violations = exception.getViolations();
+        Assertions.assertTrue(violations.contains("[DB_HOST] is required"), violations::toString);
+        Assertions.assertTrue(violations.contains("[SERVER_PORT] 10 must be less than or equal to 5.0"), violations::toString);
+        for (var invalidType : List.of(InvalidDefaultConfig.class, InvalidConstraintsConfig.RequiredWithDefault.class,
+                InvalidConstraintsConfig.RangeOnString.class, InvalidConstraintsConfig.RangeOnStringList.class)) {
+            Assertions.assertTrue(violations.stream().anyMatch(violation -> violation.startsWith(invalidType.getName() + ":")), violations::toString);
+        }
+        Assertions.assertEquals(6, violations.size());
+    }
+
+    @Test
+    void warmUp_WhenBindingPlansAreInvalid() {
+        EnvValidationException exception = Assertions.assertThrows(EnvValidationException.class,
+                () -> EnvIndex.warmUp(List.of(InvalidDefaultConfig.class, PartiallyAnnotatedConfig.class, AppConfig.class),
+                        objectEnvParser, envProxyFactory));
+        Assertions.assertEquals(2, exception.getViolations().size());
+        Assertions.assertTrue(exception.getViolations().stream().anyMatch(violation -> violation.startsWith(InvalidDefaultConfig.class.getName())));
+        Assertions.assertTrue(exception.getViolations().stream().anyMatch(violation -> violation.startsWith(PartiallyAnnotatedConfig.class.getName())));
+    }
+}
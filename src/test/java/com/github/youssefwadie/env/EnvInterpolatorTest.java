@@ -0,0 +1,56 @@
+package com.github.youssefwadie.env;
+
+import com.github.youssefwadie.env.exceptions.EnvValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class EnvInterpolatorTest {
+
+    @Test
+    void get() {
+        final var env = new HashMap<String, String>();
+        env.put("DB_HOST", "localhost");
+        env.put("DB_PORT", "3306");
+        env.put("DB_ADDRESS", "${DB_HOST}:${DB_PORT}");
+        env.put("DB_URL", "jdbc:mysql://${DB_ADDRESS}/app");
+        env.put("TEMPLATE", "$${DB_HOST} ${MISSING}");
+        EnvInterpolator interpolator = new EnvInterpolator(env);
+
+        Assertions.assertEquals("jdbc:mysql://localhost:3306/app", interpolator.get("DB_URL"));
+        Assertions.assertEquals("localhost:3306", interpolator.get("DB_ADDRESS"));
+        Assertions.assertEquals("${DB_HOST} ${MISSING}", interpolator.get("TEMPLATE"));
+        Assertions.assertEquals("localhost", interpolator.get("DB_HOST"));
+        Assertions.assertNull(interpolator.get("MISSING"));
+    }
+
+    @Test
+    void get_WhenReferencesAreCyclic() {
+        EnvInterpolator interpolator = new EnvInterpolator(Map.of(
+                "A", "${B}",
+                "B", "${A}",
+                "C", "${A}-c",
+                "D", "d"));
+
+        Assertions.assertThrows(EnvValidationException.class, () -> interpolator.get("A"));
+        Assertions.assertThrows(EnvValidationException.class, () -> interpolator.get("C"));
+        Assertions.assertEquals("d", interpolator.get("D"));
+    }
+
+    @Test
+    void get_WhenSnapshotIsLarge() {
+        final var env = new HashMap<String, String>();
+        env.put("ROOT", "root");
+        for (int i = 0; i < 5000; i++) {
+            env.put("KEY_" + i, "${ROOT}/" + i);
+            env.put("NESTED_" + i, "${KEY_" + i + "}/nested");
+        }
+        EnvInterpolator interpolator = new EnvInterpolator(env);
+
+        for (int i = 0; i < 5000; i++) {
+            Assertions.assertEquals("root/" + i + "/nested", interpolator.get("NESTED_" + i));
+        }
+    }
+}
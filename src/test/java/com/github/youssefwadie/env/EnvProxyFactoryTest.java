@@ -1,13 +1,25 @@
 package com.github.youssefwadie.env;
 
+import com.github.youssefwadie.env.exceptions.EnvValidationException;
+import com.github.youssefwadie.env.interfaces.ConstrainedServerConfig;
+import com.github.youssefwadie.env.interfaces.DefaultMethodConfig;
+import com.github.youssefwadie.env.interfaces.OptionalConstrainedServerConfig;
+import com.github.youssefwadie.env.interfaces.SecretConfig;
 import com.github.youssefwadie.env.interfaces.ServerConfig;
+import com.github.youssefwadie.env.model.SecretAppConfig;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -43,4 +55,97 @@ class EnvProxyFactoryTest {
         Assertions.assertTrue(() -> proxy.getPort().equals(SERVER_PORT));
         Assertions.assertTrue(() -> proxy.getAdminIds().equals(ADMIN_IDS));
     }
-}
\ No newline at end of file
+
+    @Test
+    void validate() {
+        EnvValidationException exception = Assertions.assertThrows(EnvValidationException.class,
+                () -> envProxyFactory.validate(ConstrainedServerConfig.class));
+        Assertions.assertEquals(2, exception.getViolations().size());
+        Assertions.assertThrows(EnvValidationException.class, () -> envProxyFactory.createProxy(ConstrainedServerConfig.class));
+    }
+
+    @Test
+    void createProxy_WithOptionalConstraints_WhenAbsent() {
+        OptionalConstrainedServerConfig proxy = envProxyFactory.createProxy(OptionalConstrainedServerConfig.class);
+        Assertions.assertNull(proxy.getAdminPort());
+        Assertions.assertNull(proxy.getLoadFactor());
+    }
+
+    @Test
+    void createProxy_WithOptionalConstraints_WhenValueIsNaN() {
+        EnvProxyFactory proxyFactory = new EnvProxyFactory(Map.of("LOAD_FACTOR", "NaN"));
+        Assertions.assertThrows(EnvValidationException.class, () -> proxyFactory.createProxy(OptionalConstrainedServerConfig.class));
+    }
+
+    @Test
+    void createProxy_WithFileIndirection(@TempDir Path tempDir) throws Exception {
+        Path passwordFile = Files.writeString(tempDir.resolve("db_password"), "s3cr3t\n");
+        Path caBundleFile = Files.writeString(tempDir.resolve("ca.pem"), "-----BEGIN CERTIFICATE-----");
+        EnvProxyFactory proxyFactory = new EnvProxyFactory(Map.of(
+                "DB_PASSWORD_FILE", passwordFile.toString(),
+                "CA_BUNDLE_FILE", caBundleFile.toString()));
+
+        SecretConfig proxy = proxyFactory.createProxy(SecretConfig.class);
+        Assertions.assertEquals("s3cr3t", proxy.getDbPassword());
+        Assertions.assertEquals("-----BEGIN CERTIFICATE-----", StandardCharsets.UTF_8.decode(proxy.getCaBundle()).toString());
+        Assertions.assertTrue(proxy.getCaBundle().isReadOnly());
+
+        Files.writeString(passwordFile, "rotated");
+        Files.setLastModifiedTime(passwordFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        Assertions.assertEquals("rotated", proxyFactory.createProxy(SecretConfig.class).getDbPassword());
+    }
+
+    @Test
+    void createProxy_WhenSecretFileDoesNotMatchPattern(@TempDir Path tempDir) throws Exception {
+        Path caBundleFile = Files.writeString(tempDir.resolve("ca.pem"), "not a certificate");
+        EnvProxyFactory proxyFactory = new EnvProxyFactory(Map.of(
+                "DB_PASSWORD", DB_PASSWORD,
+                "CA_BUNDLE_FILE", caBundleFile.toString()));
+        Assertions.assertThrows(EnvValidationException.class, () -> proxyFactory.createProxy(SecretConfig.class));
+    }
+
+    @Test
+    void createProxy_WithSharedEnvParser(@TempDir Path tempDir) throws Exception {
+        Path passwordFile = Files.writeString(tempDir.resolve("db_password"), "s3cr3t");
+        EnvParser envParser = new EnvParser(Map.of("DB_PASSWORD_FILE", passwordFile.toString()));
+        ObjectEnvParser objectEnvParser = new ObjectEnvParser(envParser, false);
+        EnvProxyFactory proxyFactory = new EnvProxyFactory(envParser);
+        Assertions.assertEquals("s3cr3t", objectEnvParser.parse(SecretAppConfig.class).getDbPassword());
+
+        // same size and modification time, only a second read would see the new content
+        FileTime lastModifiedTime = Files.getLastModifiedTime(passwordFile);
+        Files.writeString(passwordFile, "S3CR3T");
+        Files.setLastModifiedTime(passwordFile, lastModifiedTime);
+        Assertions.assertEquals("s3cr3t", proxyFactory.createProxy(SecretConfig.class).getDbPassword());
+
+        objectEnvParser.clearFileCache();
+        Assertions.assertEquals("S3CR3T", proxyFactory.createProxy(SecretConfig.class).getDbPassword());
+    }
+
+    @Test
+    void createProxy_WhenSecretFileIsMissing(@TempDir Path tempDir) {
+        EnvProxyFactory proxyFactory = new EnvProxyFactory(Map.of("DB_PASSWORD_FILE", tempDir.resolve("missing").toString()));
+        Assertions.assertThrows(EnvValidationException.class, () -> proxyFactory.createProxy(SecretConfig.class));
+    }
+
+    @Test
+    void createProxy_WithInterpolation() {
+        EnvProxyFactory proxyFactory = new EnvProxyFactory(Map.of(
+                "DB_URL", "jdbc:mysql://${DB_USERNAME}@localhost:${SERVER_PORT}/app",
+                "DB_USERNAME", DB_USERNAME,
+                "SERVER_PORT", String.valueOf(SERVER_PORT)), false, true);
+        Assertions.assertEquals("jdbc:mysql://youssef@localhost:10/app", proxyFactory.createProxy(ServerConfig.class).getDbUrl());
+    }
+
+    @Test
+    void createProxy_WithoutInterpolation() {
+        EnvProxyFactory proxyFactory = new EnvProxyFactory(Map.of("DB_URL", "jdbc:mysql://${DB_HOST}/app", "DB_HOST", "localhost"));
+        Assertions.assertEquals("jdbc:mysql://${DB_HOST}/app", proxyFactory.createProxy(ServerConfig.class).getDbUrl());
+    }
+
+    @Test
+    void createProxy_WithDefaultMethod() {
+        DefaultMethodConfig proxy = envProxyFactory.createProxy(DefaultMethodConfig.class);
+        Assertions.assertEquals("localhost:" + SERVER_PORT, proxy.getAddress());
+    }
+}
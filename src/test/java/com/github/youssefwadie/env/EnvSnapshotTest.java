@@ -0,0 +1,162 @@
+package com.github.youssefwadie.env;
+
+import com.github.youssefwadie.env.interfaces.ServerConfig;
+import com.github.youssefwadie.env.model.AppConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class EnvSnapshotTest {
+    private final static List<String> ALLOWED_ORIGINS = List.of("http://localhost:4200", "https://example.org");
+
+    @TempDir
+    Path tempDir;
+    Path snapshotFile;
+    Map<String, String> env;
+
+    @BeforeEach
+    void setUp() {
+        snapshotFile = tempDir.resolve("env.snapshot");
+        env = new HashMap<>();
+        env.put("DB_USERNAME", "youssef");
+        env.put("DB_PASSWORD", "secret");
+        env.put("SERVER_PORT", "10");
+        env.put("ALLOWED_ORIGINS", String.join(",", ALLOWED_ORIGINS));
+        env.put("ADMIN_IDS", "1,2,3");
+    }
+
+    @Test
+    void loadWarmSnapshot() {
+        EnvSnapshot coldSnapshot = EnvSnapshot.load(snapshotFile, env);
+        Assertions.assertEquals(0, coldSnapshot.size());
+        new ObjectEnvParser(coldSnapshot, true).parse(AppConfig.class);
+        new EnvProxyFactory(coldSnapshot).createProxy(ServerConfig.class);
+        coldSnapshot.save();
+        Assertions.assertTrue(Files.exists(snapshotFile));
+
+        EnvSnapshot warmSnapshot = EnvSnapshot.load(snapshotFile, env);
+        Assertions.assertEquals(coldSnapshot.size(), warmSnapshot.size());
+
+        AppConfig appConfig = new ObjectEnvParser(warmSnapshot, true).parse(AppConfig.class);
+        Assertions.assertEquals(10, appConfig.getPort());
+        Assertions.assertEquals(ALLOWED_ORIGINS, appConfig.getAllowedOrigins());
+        Assertions.assertEquals(List.of(1, 2, 3), appConfig.getAdminIds());
+
+        ServerConfig serverConfig = new EnvProxyFactory(warmSnapshot).createProxy(ServerConfig.class);
+        Assertions.assertEquals("secret", serverConfig.getDbPassword());
+        Assertions.assertEquals(List.of(BigDecimal.valueOf(1), BigDecimal.valueOf(2), BigDecimal.valueOf(3)), serverConfig.getAdminIds());
+    }
+
+    @Test
+    void loadSnapshot_WhenEnvironmentChanged() {
+        EnvSnapshot snapshot = EnvSnapshot.load(snapshotFile, env);
+        new ObjectEnvParser(snapshot, true).parse(AppConfig.class);
+        snapshot.save();
+
+        env.put("SERVER_PORT", "20");
+        EnvSnapshot staleSnapshot = EnvSnapshot.load(snapshotFile, env);
+        Assertions.assertEquals(0, staleSnapshot.size());
+        Assertions.assertEquals(20, new ObjectEnvParser(staleSnapshot, true).parse(AppConfig.class).getPort());
+    }
+
+    @Test
+    void loadSnapshot_WhenFileIsCorrupted() throws Exception {
+        Files.write(snapshotFile, new byte[]{1, 2, 3});
+        Assertions.assertEquals(0, EnvSnapshot.load(snapshotFile, env).size());
+    }
+
+    @Test
+    void loadSnapshot_WhenEntriesAreDamaged() throws Exception {
+        EnvSnapshot snapshot = EnvSnapshot.load(snapshotFile, env);
+        new ObjectEnvParser(snapshot, true).parse(AppConfig.class);
+        snapshot.save();
+
+        // overwrites the type tag of every entry, keeping the header valid
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+        content.position(Integer.BYTES * 2 + Long.BYTES);
+        int count = content.getInt();
+        for (int i = 0; i < count; i++) {
+            int keyLength = content.getInt();
+            content.position(content.position() + keyLength);
+            int length = content.getInt();
+            content.put(content.position(), (byte) 99);
+            content.position(content.position() + length);
+        }
+        Files.write(snapshotFile, content.array());
+
+        EnvSnapshot damagedSnapshot = EnvSnapshot.load(snapshotFile, env);
+        Assertions.assertEquals(count, damagedSnapshot.size());
+        AppConfig appConfig = new ObjectEnvParser(damagedSnapshot, true).parse(AppConfig.class);
+        Assertions.assertEquals(10, appConfig.getPort());
+        Assertions.assertEquals(ALLOWED_ORIGINS, appConfig.getAllowedOrigins());
+        Assertions.assertEquals(List.of(1, 2, 3), appConfig.getAdminIds());
+    }
+
+    @Test
+    void save_WhenConversionFailed() {
+        EnvSnapshot validSnapshot = EnvSnapshot.load(tempDir.resolve("valid.snapshot"), env);
+        new ObjectEnvParser(validSnapshot, true).parse(AppConfig.class);
+
+        env.put("SERVER_PORT", "ten");
+        EnvSnapshot snapshot = EnvSnapshot.load(snapshotFile, env);
+        Assertions.assertNull(new ObjectEnvParser(snapshot, true).parse(AppConfig.class).getPort());
+        Assertions.assertEquals(validSnapshot.size() - 1, snapshot.size());
+        snapshot.save();
+
+        // reported again rather than resolved to a recorded null
+        EnvSnapshot warmSnapshot = EnvSnapshot.load(snapshotFile, env);
+        Assertions.assertEquals(snapshot.size(), warmSnapshot.size());
+        Assertions.assertNull(new ObjectEnvParser(warmSnapshot, true).parse(AppConfig.class).getPort());
+        Assertions.assertEquals(snapshot.size(), warmSnapshot.size());
+    }
+
+    @Test
+    void save_DropsUnusedEntries() {
+        EnvSnapshot appConfigSnapshot = EnvSnapshot.load(tempDir.resolve("app-config.snapshot"), env);
+        new ObjectEnvParser(appConfigSnapshot, true).parse(AppConfig.class);
+
+        EnvSnapshot snapshot = EnvSnapshot.load(snapshotFile, env);
+        new ObjectEnvParser(snapshot, true).parse(AppConfig.class);
+        new EnvProxyFactory(snapshot).createProxy(ServerConfig.class);
+        snapshot.save();
+
+        // ServerConfig was removed since the last start
+        EnvSnapshot warmSnapshot = EnvSnapshot.load(snapshotFile, env);
+        new ObjectEnvParser(warmSnapshot, true).parse(AppConfig.class);
+        warmSnapshot.save();
+        Assertions.assertEquals(appConfigSnapshot.size(), EnvSnapshot.load(snapshotFile, env).size());
+    }
+
+    @Test
+    void save_IsReadableByOwnerOnly() throws Exception {
+        Assumptions.assumeTrue(tempDir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        EnvSnapshot snapshot = EnvSnapshot.load(snapshotFile, env);
+        new ObjectEnvParser(snapshot, true).parse(AppConfig.class);
+        snapshot.save();
+        Assertions.assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(snapshotFile));
+    }
+
+    @Test
+    void save_WhenFileCannotBeReplaced() throws Exception {
+        // a non-empty directory cannot be replaced by the snapshot file
+        Files.createDirectories(snapshotFile.resolve("occupied"));
+        EnvSnapshot blockedSnapshot = EnvSnapshot.load(snapshotFile, env);
+        new ObjectEnvParser(blockedSnapshot, true).parse(AppConfig.class);
+        Assertions.assertThrows(UncheckedIOException.class, blockedSnapshot::save);
+        try (var files = Files.list(tempDir)) {
+            Assertions.assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.youssefwadie.env;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+class FileContentCacheTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void read_WhenFileIsDeleted() throws Exception {
+        FileContentCache cache = new FileContentCache();
+        Path secret = Files.writeString(tempDir.resolve("secret"), "s3cr3t\n");
+        Assertions.assertEquals("s3cr3t", FileContentCache.decode(cache.read(secret)));
+        Assertions.assertEquals(1, cache.size());
+
+        Files.delete(secret);
+        Assertions.assertThrows(NoSuchFileException.class, () -> cache.read(secret));
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void clear() throws Exception {
+        FileContentCache cache = new FileContentCache();
+        cache.read(Files.writeString(tempDir.resolve("secret"), "s3cr3t"));
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void read_WhenLargeFileIsRewrittenInPlace() throws Exception {
+        FileContentCache cache = new FileContentCache();
+        Path bundle = Files.writeString(tempDir.resolve("bundle.pem"), "A".repeat(128 * 1024));
+        ByteBuffer content = cache.read(bundle);
+        Assertions.assertTrue(content.isDirect());
+
+        Files.writeString(bundle, "truncated");
+        Assertions.assertEquals(128 * 1024, content.remaining());
+        Assertions.assertEquals('A', content.get(content.limit() - 1));
+        Assertions.assertEquals("truncated", StandardCharsets.UTF_8.decode(cache.read(bundle)).toString());
+    }
+}
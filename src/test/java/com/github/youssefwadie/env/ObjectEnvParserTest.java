@@ -1,14 +1,21 @@
 package com.github.youssefwadie.env;
 
+import com.github.youssefwadie.env.exceptions.EnvValidationException;
 import com.github.youssefwadie.env.exceptions.NoArgsConstructorNotFoundException;
 import com.github.youssefwadie.env.model.AdvancedAppConfig;
 import com.github.youssefwadie.env.model.AppConfig;
+import com.github.youssefwadie.env.model.ConstrainedConfig;
+import com.github.youssefwadie.env.model.InvalidConstraintsConfig;
+import com.github.youssefwadie.env.model.NumericConfig;
+import com.github.youssefwadie.env.model.OptionalConstrainedConfig;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.List;
+import java.util.Set;
 
 import static com.github.youssefwadie.env.exceptions.NoArgsConstructorNotFoundException.NO_EMPTY_CONSTRUCTOR_FOUND_MSG;
 
@@ -29,6 +36,10 @@ class ObjectEnvParserTest {
         env.put("DB_PASSWORD", DB_PASSWORD);
         env.put("ALLOWED_ORIGINS", String.join(",", ALLOWED_ORIGINS));
         env.put("ADMIN_IDS", String.join(",", ADMIN_IDS.stream().map(String::valueOf).toList()));
+        env.put("TIMEOUTS", " 100, 2000 ,-30,,");
+        env.put("PORTS", "8080; 8443; 8080");
+        env.put("RATIOS", "0.5, 1e3");
+        env.put("TAGS", "a||b");
         envParser = new ObjectEnvParser(env, true);
     }
 
@@ -61,4 +72,69 @@ class ObjectEnvParserTest {
         Assertions.assertEquals(runtimeException.getCause().getMessage(), NO_EMPTY_CONSTRUCTOR_FOUND_MSG);
     }
 
-}
\ No newline at end of file
+    @Test
+    void parseNumericCollections() {
+        NumericConfig numericConfig = envParser.parse(NumericConfig.class);
+        Assertions.assertEquals(List.of(100L, 2000L, -30L), numericConfig.getTimeouts());
+        Assertions.assertEquals(Set.of((short) 8080, (short) 8443), numericConfig.getPorts());
+        Assertions.assertEquals(List.of(0.5, 1000.0), numericConfig.getRatios());
+        Assertions.assertEquals(List.of("a", "", "b"), numericConfig.getTags());
+    }
+
+    @Test
+    void parseNumericCollections_WhenElementIsInvalid() {
+        ObjectEnvParser parser = new ObjectEnvParser(Map.of("LIMITS", "1,,3"), true);
+        EnvValidationException exception = Assertions.assertThrows(EnvValidationException.class, () -> parser.parse(NumericConfig.class));
+        Assertions.assertTrue(exception.getViolations().get(0).endsWith("element 1: For input string: \"\" at [2, 2)"),
+                exception.getViolations().get(0));
+    }
+
+    @Test
+    void parseWithDefaultValues() {
+        ConstrainedConfig first = envParser.parse(ConstrainedConfig.class);
+        ConstrainedConfig second = envParser.parse(ConstrainedConfig.class);
+        Assertions.assertEquals(SERVER_PORT, first.getPort());
+        Assertions.assertEquals(DB_USERNAME, first.getDbUsername());
+        Assertions.assertEquals(4, first.getWorkerThreads());
+        Assertions.assertEquals(List.of(100L, 200L, 400L), first.getRetryDelays());
+        Assertions.assertNotSame(first.getRetryDelays(), second.getRetryDelays());
+        first.getRetryDelays().add(800L);
+        Assertions.assertEquals(List.of(100L, 200L, 400L), second.getRetryDelays());
+    }
+
+    @Test
+    void validate_WhenConstraintsAreViolated() {
+        ObjectEnvParser parser = new ObjectEnvParser(Map.of("SERVER_PORT", "70000"), true);
+        EnvValidationException exception = Assertions.assertThrows(EnvValidationException.class,
+                () -> parser.validate(ConstrainedConfig.class));
+        Assertions.assertEquals(2, exception.getViolations().size());
+
+        Assertions.assertThrows(EnvValidationException.class, () -> parser.parse(ConstrainedConfig.class));
+        Assertions.assertThrows(EnvValidationException.class, () -> parser.parse(new ConstrainedConfig()));
+    }
+
+    @Test
+    void parseWithOptionalConstraints_WhenAbsent() {
+        OptionalConstrainedConfig config = envParser.parse(OptionalConstrainedConfig.class);
+        Assertions.assertNull(config.getAdminPort());
+        Assertions.assertNull(config.getLoadFactor());
+        Assertions.assertEquals(List.of(), config.getBackupHosts());
+        Assertions.assertDoesNotThrow(() -> envParser.validate(OptionalConstrainedConfig.class));
+    }
+
+    @Test
+    void validate_WhenValueIsNaN() {
+        ObjectEnvParser parser = new ObjectEnvParser(Map.of("LOAD_FACTOR", "NaN"), true);
+        EnvValidationException exception = Assertions.assertThrows(EnvValidationException.class,
+                () -> parser.validate(OptionalConstrainedConfig.class));
+        Assertions.assertEquals(1, exception.getViolations().size());
+    }
+
+    @Test
+    void validate_WhenConstraintsAreInconsistent() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> envParser.validate(InvalidConstraintsConfig.RequiredWithDefault.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> envParser.validate(InvalidConstraintsConfig.RangeOnString.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> envParser.validate(InvalidConstraintsConfig.RangeOnStringList.class));
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.github.youssefwadie.env.interfaces;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+public interface ArgumentMethodConfig {
+    @Env("DB_HOST")
+    String getDbHost(String fallback);
+}
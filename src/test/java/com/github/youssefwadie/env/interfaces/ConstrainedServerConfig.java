@@ -0,0 +1,14 @@
+package com.github.youssefwadie.env.interfaces;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+public interface ConstrainedServerConfig {
+    @Env(value = "SERVER_PORT", max = 5)
+    Integer getPort();
+
+    @Env(value = "DB_HOST", required = true)
+    String getDbHost();
+
+    @Env(value = "DB_SCHEMA", defaultValue = "public")
+    String getDbSchema();
+}
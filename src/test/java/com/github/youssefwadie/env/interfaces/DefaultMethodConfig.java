@@ -0,0 +1,12 @@
+package com.github.youssefwadie.env.interfaces;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+public interface DefaultMethodConfig {
+    @Env("SERVER_PORT")
+    Integer getPort();
+
+    default String getAddress() {
+        return "localhost:" + getPort();
+    }
+}
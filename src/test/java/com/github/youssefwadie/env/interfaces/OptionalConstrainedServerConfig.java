@@ -0,0 +1,11 @@
+package com.github.youssefwadie.env.interfaces;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+public interface OptionalConstrainedServerConfig {
+    @Env(value = "ADMIN_PORT", min = 1, max = 65535)
+    Integer getAdminPort();
+
+    @Env(value = "LOAD_FACTOR", min = 0, max = 1)
+    Double getLoadFactor();
+}
@@ -0,0 +1,7 @@
+package com.github.youssefwadie.env.interfaces;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+public interface ParameterAnnotatedService {
+    void connect(@Env("DB_HOST") String host);
+}
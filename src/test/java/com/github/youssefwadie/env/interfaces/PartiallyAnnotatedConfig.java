@@ -0,0 +1,10 @@
+package com.github.youssefwadie.env.interfaces;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+public interface PartiallyAnnotatedConfig {
+    @Env("SERVER_PORT")
+    Integer getPort();
+
+    String getHost();
+}
@@ -0,0 +1,13 @@
+package com.github.youssefwadie.env.interfaces;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+import java.nio.ByteBuffer;
+
+public interface SecretConfig {
+    @Env(value = "DB_PASSWORD", fromFile = true, required = true)
+    String getDbPassword();
+
+    @Env(value = "CA_BUNDLE", fromFile = true, pattern = "-----BEGIN CERTIFICATE-----[\\s\\S]*")
+    ByteBuffer getCaBundle();
+}
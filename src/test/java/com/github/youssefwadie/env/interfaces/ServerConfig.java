@@ -14,6 +14,9 @@ public interface ServerConfig {
     @Env("DB_PASSWORD")
     String getDbPassword();
 
+    @Env("DB_URL")
+    String getDbUrl();
+
     @Env(value = "ALLOWED_ORIGINS")
     List<String> getAllowedOrigins();
 
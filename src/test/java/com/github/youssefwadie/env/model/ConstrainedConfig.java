@@ -0,0 +1,35 @@
+package com.github.youssefwadie.env.model;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+import java.util.List;
+
+public class ConstrainedConfig {
+    @Env(value = "SERVER_PORT", min = 1, max = 65535)
+    private Integer port;
+
+    @Env(value = "WORKER_THREADS", defaultValue = "4")
+    private int workerThreads;
+
+    @Env(value = "RETRY_DELAYS", defaultValue = "100,200,400")
+    private List<Long> retryDelays;
+
+    @Env(value = "DB_USERNAME", required = true, pattern = "[a-z]+")
+    private String dbUsername;
+
+    public Integer getPort() {
+        return port;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public List<Long> getRetryDelays() {
+        return retryDelays;
+    }
+
+    public String getDbUsername() {
+        return dbUsername;
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.youssefwadie.env.model;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+import java.util.List;
+
+public class InvalidConstraintsConfig {
+    public static class RequiredWithDefault {
+        @Env(value = "DB_HOST", required = true, defaultValue = "localhost")
+        private String dbHost;
+    }
+
+    public static class RangeOnString {
+        @Env(value = "DB_USERNAME", min = 1)
+        private String dbUsername;
+    }
+
+    public static class RangeOnStringList {
+        @Env(value = "ALLOWED_ORIGINS", max = 10)
+        private List<String> allowedOrigins;
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.youssefwadie.env.model;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+public class InvalidDefaultConfig {
+    @Env(value = "WORKER_THREADS", defaultValue = "four")
+    private Integer workerThreads;
+
+    public Integer getWorkerThreads() {
+        return workerThreads;
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.youssefwadie.env.model;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+import java.util.List;
+import java.util.Set;
+
+public class NumericConfig {
+    @Env("TIMEOUTS")
+    private List<Long> timeouts;
+
+    @Env(value = "PORTS", separator = "; ")
+    private Set<Short> ports;
+
+    @Env("RATIOS")
+    private List<Double> ratios;
+
+    @Env(value = "TAGS", separator = "\\|")
+    private List<String> tags;
+
+    @Env(value = "LIMITS", min = 0)
+    private List<Long> limits;
+
+    public List<Long> getTimeouts() {
+        return timeouts;
+    }
+
+    public Set<Short> getPorts() {
+        return ports;
+    }
+
+    public List<Double> getRatios() {
+        return ratios;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public List<Long> getLimits() {
+        return limits;
+    }
+}
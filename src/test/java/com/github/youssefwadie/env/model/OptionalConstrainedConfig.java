@@ -0,0 +1,28 @@
+package com.github.youssefwadie.env.model;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+import java.util.List;
+
+public class OptionalConstrainedConfig {
+    @Env(value = "ADMIN_PORT", min = 1, max = 65535)
+    private Integer adminPort;
+
+    @Env(value = "LOAD_FACTOR", min = 0, max = 1)
+    private Double loadFactor;
+
+    @Env(value = "BACKUP_HOSTS", pattern = "[a-z.,]+")
+    private List<String> backupHosts;
+
+    public Integer getAdminPort() {
+        return adminPort;
+    }
+
+    public Double getLoadFactor() {
+        return loadFactor;
+    }
+
+    public List<String> getBackupHosts() {
+        return backupHosts;
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.youssefwadie.env.model;
+
+import com.github.youssefwadie.env.annotations.Env;
+
+public class SecretAppConfig {
+    @Env(value = "DB_PASSWORD", fromFile = true)
+    private String dbPassword;
+
+    public String getDbPassword() {
+        return dbPassword;
+    }
+}